@@ -0,0 +1,99 @@
+package org.myspringframework.benchmark;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpClientTransport;
+import org.eclipse.jetty.client.http.HttpClientTransportOverHTTP;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.http.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.myspringframework.boot.ServerProperties;
+import org.myspringframework.boot.SpringApplication;
+import org.myspringframework.boot.testapp.TestApplication;
+import org.myspringframework.context.ApplicationContext;
+import org.myspringframework.context.InternalBeanRegistrar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적은 수의 연결로 작은 요청을 많이 보낼 때 HTTP/1.1과 h2c(평문 HTTP/2)를 비교합니다.
+ * 같은 JVM 안에서 {@link SpringApplication#createServer}로 만든 서버의 핸들러(테스트 앱의 {@code /hello/slow/{millis}})에
+ * 요청을 보내고, 모두 끝날 때까지의 시간을 측정합니다. 요청은 DispatcherServlet의 라우팅, 바인딩, 직렬화를 모두 거칩니다.
+ * <p>
+ * HTTP/1.1은 연결 하나에서 한 번에 요청 하나만 처리하므로 동시 처리 수가 연결 수에 묶이고,
+ * h2c는 연결마다 최대 동시 stream 수만큼 요청을 겹쳐 보냅니다. 핸들러 지연(latencyMillis)이 클수록 차이가 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Http2MultiplexingBenchmark {
+    @Param({"http/1.1", "h2c"})
+    private String protocol;
+
+    @Param({"4"})
+    private int connections;
+
+    @Param({"1000"})
+    private int requests;
+
+    @Param({"1"})
+    private long latencyMillis;
+
+    private ApplicationContext context;
+    private Server server;
+    private HttpClient client;
+    private String uri;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new ApplicationContext();
+        new InternalBeanRegistrar().registerBeans(context);
+        context.refresh(TestApplication.class);
+        server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0",
+                "--" + ServerProperties.PROTOCOLS + "=http/1.1,h2c"));
+        server.start();
+
+        HttpClientTransport transport = protocol.equals("h2c")
+                ? new HttpClientTransportOverHTTP2(new HTTP2Client()) // prior knowledge
+                : new HttpClientTransportOverHTTP();
+        client = new HttpClient(transport);
+        client.setMaxConnectionsPerDestination(connections);
+        client.setMaxRequestsQueuedPerDestination(requests);
+        client.start();
+        uri = "http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort()
+                + "/hello/slow/" + latencyMillis;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.stop();
+        SpringApplication.shutdown(server, context);
+    }
+
+    @Benchmark
+    public int smallRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < requests; i++) {
+            client.newRequest(uri).send(result -> {
+                if (result.isFailed() || result.getResponse().getStatus() != 200) {
+                    failures.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed");
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,31 @@
+package org.myspringframework.benchmark;
+
+import org.myspringframework.mapper.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParserBenchmark {
+    @Param({"small", "large", "deep", "numbers", "strings"})
+    private String shape;
+
+    private JsonParser jsonParser;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        jsonParser = new JsonParser();
+        json = Payloads.json(shape);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return jsonParser.parse(json);
+    }
+}
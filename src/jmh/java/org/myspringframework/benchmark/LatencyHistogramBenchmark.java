@@ -0,0 +1,37 @@
+package org.myspringframework.benchmark;
+
+import org.myspringframework.metrics.LatencyHistogram;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 기록하는 비용. 여러 스레드가 같은 히스토그램에 기록하는 경우를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+    private LatencyHistogram histogram;
+
+    @Setup
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordSingleThread() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordFourThreads() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000_000_000L));
+    }
+}
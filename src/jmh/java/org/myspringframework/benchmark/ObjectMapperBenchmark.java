@@ -0,0 +1,41 @@
+package org.myspringframework.benchmark;
+
+import org.myspringframework.mapper.JsonParser;
+import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.mapper.model.Company;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+    // 직원 수
+    @Param({"1", "1000"})
+    private int employees;
+
+    private ObjectMapper objectMapper;
+    private Company company;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper(new JsonParser());
+        company = Payloads.company(employees);
+        json = objectMapper.writeValueAsString(company);
+    }
+
+    @Benchmark
+    public Company readValue() {
+        return objectMapper.readValue(json, Company.class);
+    }
+
+    @Benchmark
+    public String writeValueAsString() {
+        return objectMapper.writeValueAsString(company);
+    }
+}
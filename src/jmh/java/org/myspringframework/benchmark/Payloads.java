@@ -0,0 +1,82 @@
+package org.myspringframework.benchmark;
+
+import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.mapper.model.Address;
+import org.myspringframework.mapper.model.Company;
+import org.myspringframework.mapper.model.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크에 사용하는 payload 모음입니다.
+ * 매 실행마다 같은 입력을 쓰도록 난수 없이 결정적으로 생성합니다.
+ */
+public final class Payloads {
+    private Payloads() {
+    }
+
+    public static String json(String shape) {
+        return switch (shape) {
+            case "small" -> smallObject();
+            case "large" -> new ObjectMapper().writeValueAsString(company(1_000));
+            case "deep" -> deepNesting(64);
+            case "numbers" -> numberHeavy(10_000);
+            case "strings" -> escapeHeavy(2_000);
+            default -> throw new IllegalArgumentException("Unknown payload shape: " + shape);
+        };
+    }
+
+    public static Company company(int employees) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            Address address = new Address(i + " Main St", "Springfield", String.format("%05d", i));
+            people.add(new Person("Person " + i, 20 + i % 40, i % 2 == 0, address, Arrays.asList("Java", "Spring", "SQL")));
+        }
+        Map<String, Address> offices = new HashMap<>();
+        offices.put("Headquarters", new Address("1 Corporate Blvd", "Metropolis", "00001"));
+        offices.put("Branch", new Address("2 Side St", "Springfield", "00002"));
+        return new Company("Tech Solutions Inc.", people, offices);
+    }
+
+    private static String smallObject() {
+        return "{\"name\": \"Jane Doe\", \"age\": 28, \"active\": true, "
+                + "\"address\": {\"street\": \"123 Main St\", \"city\": \"Springfield\", \"zipcode\": \"12345\"}, "
+                + "\"skills\": [\"Java\", \"Spring\", \"SQL\"]}";
+    }
+
+    private static String deepNesting(int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"level\": ").append(i).append(", \"child\": ");
+        }
+        sb.append("null");
+        sb.append("}".repeat(depth));
+        return sb.toString();
+    }
+
+    private static String numberHeavy(int count) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            switch (i % 3) {
+                case 0 -> sb.append(i);
+                case 1 -> sb.append(1_000_000_000_000L + i);
+                default -> sb.append(i).append('.').append(i % 1000);
+            }
+        }
+        return sb.append("]").toString();
+    }
+
+    private static String escapeHeavy(int count) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("\"line ").append(i).append("\\n\\t\\\"quoted\\\" \\\\path\\\\ \\u00e9\\u4e2d 한글\"");
+        }
+        return sb.append("]").toString();
+    }
+}
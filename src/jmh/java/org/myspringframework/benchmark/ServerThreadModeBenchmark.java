@@ -0,0 +1,98 @@
+package org.myspringframework.benchmark;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.myspringframework.boot.ServerProperties;
+import org.myspringframework.boot.SpringApplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다운스트림 I/O를 기다리는(sleep) 핸들러에 동시 요청을 보내고 모두 끝날 때까지의 시간을 측정합니다.
+ * PLATFORM 모드는 pool의 최대 스레드 수(기본 200)만큼씩 처리되고, VIRTUAL 모드는 동시 요청 수에 묶이지 않습니다.
+ * JDK 21 미만에서는 VIRTUAL 모드도 플랫폼 스레드로 실행되므로 두 결과가 비슷하게 나옵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServerThreadModeBenchmark {
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"100", "1000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private Server server;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        ServerProperties properties = new ServerProperties("--" + ServerProperties.THREADS + "=" + threads);
+        server = new Server(SpringApplication.createThreadPool(properties));
+        ServerConnector connector = new ServerConnector(server);
+        connector.setPort(0);
+        connector.setAcceptQueueSize(concurrency);
+        server.addConnector(connector);
+
+        ServletContextHandler handler = new ServletContextHandler();
+        handler.addServlet(new ServletHolder(new BlockingServlet(latencyMillis)), "/*");
+        server.setHandler(handler);
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort() + "/")).build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Benchmark
+    public int blockingRequests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    static class BlockingServlet extends HttpServlet {
+        private final long latencyMillis;
+
+        BlockingServlet(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                Thread.sleep(latencyMillis); // 다운스트림 호출 대기
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resp.setContentType("text/plain");
+            resp.getWriter().write("ok");
+        }
+    }
+}
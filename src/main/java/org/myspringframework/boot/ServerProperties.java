@@ -0,0 +1,561 @@
+package org.myspringframework.boot;
+
+import org.myspringframework.web.servlet.ConcurrencyLimiter;
+import org.myspringframework.web.servlet.HandlerAdapter;
+import org.myspringframework.web.servlet.PriorityExecutor;
+import org.myspringframework.web.servlet.RequestMetrics;
+import org.myspringframework.web.servlet.ResponseWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.Deflater;
+
+/**
+ * 내장 서버 설정입니다.
+ * 커맨드라인 인자({@code --server.port=8081}), 시스템 프로퍼티({@code -Dserver.port=8081}),
+ * classpath의 {@code application.properties} 순서로 먼저 찾은 값을 사용합니다.
+ */
+public class ServerProperties {
+    public static final String PORT = "server.port";
+    public static final String THREADS = "server.threads";
+    public static final String THREAD_POOL_MAX = "server.thread-pool.max";
+    public static final String THREAD_POOL_MIN = "server.thread-pool.min";
+    public static final String THREAD_POOL_IDLE_TIMEOUT = "server.thread-pool.idle-timeout";
+    public static final String ACCEPTORS = "server.acceptors";
+    public static final String SELECTORS = "server.selectors";
+    public static final String ACCEPT_QUEUE_SIZE = "server.accept-queue-size";
+    public static final String CONNECTORS = "server.connectors";
+    public static final String REUSE_PORT = "server.reuse-port";
+    public static final String IDLE_TIMEOUT = "server.idle-timeout";
+    public static final String OUTPUT_BUFFER_SIZE = "server.output-buffer-size";
+    public static final String REQUEST_HEADER_SIZE = "server.request-header-size";
+    public static final String RESPONSE_HEADER_SIZE = "server.response-header-size";
+    public static final String SESSIONS_ENABLED = "server.sessions.enabled";
+    public static final String SHUTDOWN_TIMEOUT = "server.shutdown.timeout";
+    public static final String UNIX_SOCKET_PATH = "server.unix-socket.path";
+    public static final String PROTOCOLS = "server.protocols";
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "server.http2.max-concurrent-streams";
+    public static final String HTTP2_INITIAL_STREAM_WINDOW = "server.http2.initial-stream-window";
+    public static final String HTTP2_INITIAL_SESSION_WINDOW = "server.http2.initial-session-window";
+    public static final String ASYNC_TIMEOUT = "server.async-timeout";
+    public static final String MAX_REQUEST_BODY_SIZE = "server.max-request-body-size";
+    public static final String REQUEST_BODY_MEMORY_THRESHOLD = "server.request-body-memory-threshold";
+    public static final String ETAG_ENABLED = "server.etag.enabled";
+    public static final String COMPRESSION_ENABLED = "server.compression.enabled";
+    public static final String COMPRESSION_MIN_RESPONSE_SIZE = "server.compression.min-response-size";
+    public static final String COMPRESSION_LEVEL = "server.compression.level";
+    public static final String COMPRESSION_CACHE_SIZE = "server.compression.cache-size";
+    public static final String COMPRESSION_CACHE_MAX_BYTES = "server.compression.cache-max-bytes";
+    public static final String METRICS_ENABLED = "server.metrics.enabled";
+    public static final String METRICS_PATH = "server.metrics.path";
+    public static final String SERVER_TIMING_ENABLED = "server.server-timing.enabled";
+    public static final String CONCURRENCY_LIMIT_ENABLED = "server.concurrency-limit.enabled";
+    public static final String CONCURRENCY_LIMIT_INITIAL = "server.concurrency-limit.initial";
+    public static final String CONCURRENCY_LIMIT_MIN = "server.concurrency-limit.min";
+    public static final String CONCURRENCY_LIMIT_MAX = "server.concurrency-limit.max";
+    public static final String CONCURRENCY_LIMIT_TOLERANCE = "server.concurrency-limit.tolerance";
+    public static final String CONCURRENCY_LIMIT_RETRY_AFTER = "server.concurrency-limit.retry-after";
+    public static final String PRIORITY_ENABLED = "server.priority.enabled";
+    public static final String PRIORITY_WORKERS = "server.priority.workers";
+    public static final String PRIORITY_QUEUE_CAPACITY = "server.priority.queue-capacity";
+    public static final String PRIORITY_AGING = "server.priority.aging";
+    public static final String PRIORITY_RETRY_AFTER = "server.priority.retry-after";
+
+    /**
+     * 요청을 처리할 스레드 종류
+     */
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    /**
+     * connector가 받을 프로토콜
+     */
+    public enum Protocol {
+        HTTP_1_1("http/1.1"),
+        /**
+         * 평문(TLS 없는) HTTP/2. prior knowledge 연결과 HTTP/1.1 {@code Upgrade: h2c} 요청을 모두 받습니다.
+         */
+        H2C("h2c");
+
+        private final String id;
+
+        Protocol(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 128;
+    public static final int DEFAULT_HTTP2_INITIAL_STREAM_WINDOW = 512 << 10;   // 512KB
+    public static final int DEFAULT_HTTP2_INITIAL_SESSION_WINDOW = 1 << 20;    // 1MB
+
+    public static final String APPLICATION_PROPERTIES = "application.properties";
+
+    public static final int DEFAULT_THREAD_POOL_MAX = 200;
+    public static final int DEFAULT_THREAD_POOL_MIN = 8;
+    public static final int DEFAULT_THREAD_POOL_IDLE_TIMEOUT = 60_000;
+    public static final long DEFAULT_IDLE_TIMEOUT = 30_000;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 30_000;
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 32 << 10;   // 32KB
+    public static final int DEFAULT_HEADER_SIZE = 8 << 10;           // 8KB
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final Properties fileProperties;
+
+    /**
+     * classpath의 {@code application.properties}(있으면)와 커맨드라인 인자로 설정을 만듭니다.
+     */
+    public ServerProperties(String... args) {
+        this(loadApplicationProperties(), args);
+    }
+
+    /**
+     * @param fileProperties 시스템 프로퍼티보다 우선순위가 낮은 설정 (application.properties 대신 사용)
+     */
+    public ServerProperties(Properties fileProperties, String... args) {
+        this.fileProperties = fileProperties;
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                properties.put(arg.substring(2), "true");
+            } else {
+                properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        String value = properties.get(key);
+        if (value == null) {
+            value = System.getProperty(key);
+        }
+        if (value == null) {
+            value = fileProperties.getProperty(key);
+        }
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value, e);
+        }
+    }
+
+    public long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * {@code true}/{@code false}(대소문자 무시)만 받습니다. 오타가 조용히 false가 되지 않도록 그 밖의 값은 거부합니다.
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid value for " + key + ": " + value);
+    }
+
+    /**
+     * classpath의 {@code application.properties}를 읽습니다. 없으면 빈 설정입니다.
+     */
+    static Properties loadApplicationProperties() {
+        Properties properties = new Properties();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(APPLICATION_PROPERTIES)) {
+            if (in != null) {
+                properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + APPLICATION_PROPERTIES, e);
+        }
+        return properties;
+    }
+
+    /**
+     * TCP 포트. 기본값은 8080, 0이면 빈 포트를 고르고, -1이면 TCP 포트를 열지 않습니다.
+     */
+    public int getPort() {
+        return getIntProperty(PORT, 8080);
+    }
+
+    public boolean isTcpEnabled() {
+        return getPort() >= 0;
+    }
+
+    /**
+     * 요청을 받을 Unix domain socket 경로. 설정하지 않으면(기본값) Unix domain socket을 열지 않습니다.
+     */
+    public Path getUnixSocketPath() {
+        String path = getProperty(UNIX_SOCKET_PATH, "");
+        return path.isEmpty() ? null : Path.of(path);
+    }
+
+    /**
+     * 요청 처리 thread pool의 최대 스레드 수. 기본값은 200
+     */
+    public int getThreadPoolMax() {
+        return getIntProperty(THREAD_POOL_MAX, DEFAULT_THREAD_POOL_MAX);
+    }
+
+    /**
+     * thread pool이 유지할 최소 스레드 수. 기본값은 8
+     */
+    public int getThreadPoolMin() {
+        return getIntProperty(THREAD_POOL_MIN, DEFAULT_THREAD_POOL_MIN);
+    }
+
+    /**
+     * 최소 수를 넘는 유휴 스레드를 정리할 시간(ms). 기본값은 60초
+     */
+    public int getThreadPoolIdleTimeout() {
+        return getIntProperty(THREAD_POOL_IDLE_TIMEOUT, DEFAULT_THREAD_POOL_IDLE_TIMEOUT);
+    }
+
+    /**
+     * connector 하나의 acceptor 스레드 수. 기본값은 -1 (Jetty가 core 수로 결정)
+     */
+    public int getAcceptors() {
+        return getIntProperty(ACCEPTORS, -1);
+    }
+
+    /**
+     * connector 하나의 selector 수. 기본값은 -1 (Jetty가 core 수로 결정)
+     */
+    public int getSelectors() {
+        return getIntProperty(SELECTORS, -1);
+    }
+
+    /**
+     * listen backlog. 기본값은 0 (OS 기본값)
+     */
+    public int getAcceptQueueSize() {
+        return getIntProperty(ACCEPT_QUEUE_SIZE, 0);
+    }
+
+    /**
+     * 같은 포트에서 listen할 connector 수. 기본값은 1. 2 이상이면 {@link #isReusePort()}가 필요합니다.
+     */
+    public int getConnectors() {
+        return getIntProperty(CONNECTORS, 1);
+    }
+
+    /**
+     * listen socket에 SO_REUSEPORT를 설정할지 여부. 기본값은 false
+     * 여러 connector가 같은 포트를 열면 커널이 새 연결을 connector마다 나눠 줍니다. (Linux)
+     */
+    public boolean isReusePort() {
+        return getBooleanProperty(REUSE_PORT, false);
+    }
+
+    /**
+     * 연결의 idle timeout(ms). 기본값은 30초
+     */
+    public long getIdleTimeout() {
+        return getLongProperty(IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * 종료할 때 처리 중인 요청이 끝나기를 기다리는 최대 시간(ms). 기본값은 30초, 0이면 기다리지 않고 바로 멈춥니다.
+     */
+    public long getShutdownTimeout() {
+        return getLongProperty(SHUTDOWN_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * 응답 출력 buffer 크기(byte). 기본값은 32KB
+     */
+    public int getOutputBufferSize() {
+        return getIntProperty(OUTPUT_BUFFER_SIZE, DEFAULT_OUTPUT_BUFFER_SIZE);
+    }
+
+    /**
+     * 요청 header의 최대 크기(byte). 기본값은 8KB
+     */
+    public int getRequestHeaderSize() {
+        return getIntProperty(REQUEST_HEADER_SIZE, DEFAULT_HEADER_SIZE);
+    }
+
+    /**
+     * 응답 header의 최대 크기(byte). 기본값은 8KB
+     */
+    public int getResponseHeaderSize() {
+        return getIntProperty(RESPONSE_HEADER_SIZE, DEFAULT_HEADER_SIZE);
+    }
+
+    /**
+     * HTTP session 사용 여부. 기본값은 false (session 처리 handler를 만들지 않습니다)
+     */
+    public boolean isSessionsEnabled() {
+        return getBooleanProperty(SESSIONS_ENABLED, false);
+    }
+
+    /**
+     * {@code server.protocols=http/1.1,h2c}처럼 쉼표로 구분합니다. 기본값은 http/1.1
+     */
+    public List<Protocol> getProtocols() {
+        String value = getProperty(PROTOCOLS, Protocol.HTTP_1_1.getId());
+        List<Protocol> protocols = new ArrayList<>();
+        for (String id : value.split(",")) {
+            Protocol protocol = Arrays.stream(Protocol.values())
+                    .filter(p -> p.getId().equalsIgnoreCase(id.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid value for " + PROTOCOLS + ": " + value
+                            + " (http/1.1, h2c)"));
+            if (!protocols.contains(protocol)) {
+                protocols.add(protocol);
+            }
+        }
+        return protocols;
+    }
+
+    /**
+     * HTTP/2 연결 하나에서 동시에 처리할 최대 stream(요청) 수. 기본값은 128
+     */
+    public int getHttp2MaxConcurrentStreams() {
+        return getIntProperty(HTTP2_MAX_CONCURRENT_STREAMS, DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS);
+    }
+
+    /**
+     * stream 하나의 수신 flow-control window(byte). 기본값은 512KB
+     */
+    public int getHttp2InitialStreamWindow() {
+        return getIntProperty(HTTP2_INITIAL_STREAM_WINDOW, DEFAULT_HTTP2_INITIAL_STREAM_WINDOW);
+    }
+
+    /**
+     * 연결 전체의 수신 flow-control window(byte). 기본값은 1MB
+     */
+    public int getHttp2InitialSessionWindow() {
+        return getIntProperty(HTTP2_INITIAL_SESSION_WINDOW, DEFAULT_HTTP2_INITIAL_SESSION_WINDOW);
+    }
+
+    /**
+     * 비동기(CompletionStage) 핸들러의 응답 대기 시간(ms). 기본값은 30초
+     */
+    public long getAsyncTimeout() {
+        return getLongProperty(ASYNC_TIMEOUT, HandlerAdapter.DEFAULT_ASYNC_TIMEOUT);
+    }
+
+    /**
+     * 요청 body의 최대 크기(byte). 기본값은 10MB
+     */
+    public long getMaxRequestBodySize() {
+        return getLongProperty(MAX_REQUEST_BODY_SIZE, HandlerAdapter.DEFAULT_MAX_REQUEST_BODY_SIZE);
+    }
+
+    /**
+     * 요청 body를 메모리에 둘 최대 크기(byte). 기본값은 256KB
+     */
+    public int getRequestBodyMemoryThreshold() {
+        return getIntProperty(REQUEST_BODY_MEMORY_THRESHOLD, HandlerAdapter.DEFAULT_REQUEST_BODY_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * GET 응답에 ETag 자동 생성 여부. 기본값은 true
+     */
+    public boolean isETagEnabled() {
+        return getBooleanProperty(ETAG_ENABLED, true);
+    }
+
+    /**
+     * 응답 압축 사용 여부. 기본값은 true (클라이언트가 Accept-Encoding으로 허용한 경우에만 압축)
+     */
+    public boolean isCompressionEnabled() {
+        return getBooleanProperty(COMPRESSION_ENABLED, true);
+    }
+
+    /**
+     * 압축할 최소 응답 크기(byte). 기본값은 1KB
+     */
+    public int getCompressionMinResponseSize() {
+        return getIntProperty(COMPRESSION_MIN_RESPONSE_SIZE, ResponseWriter.DEFAULT_MIN_RESPONSE_SIZE);
+    }
+
+    /**
+     * 압축 레벨(0~9). 기본값은 -1 (Deflater 기본 레벨)
+     */
+    public int getCompressionLevel() {
+        return getIntProperty(COMPRESSION_LEVEL, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 압축 결과를 보관할 캐시 가능한 응답 수. 기본값은 256
+     */
+    public int getCompressionCacheSize() {
+        return getIntProperty(COMPRESSION_CACHE_SIZE, ResponseWriter.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * 보관할 압축 결과의 최대 byte 합계. 기본값은 4MB, 0이면 보관하지 않습니다.
+     */
+    public long getCompressionCacheMaxBytes() {
+        return getLongProperty(COMPRESSION_CACHE_MAX_BYTES, ResponseWriter.DEFAULT_CACHE_MAX_BYTES);
+    }
+
+    /**
+     * 요청 metrics 기록과 수집 endpoint 사용 여부. 기본값은 true
+     */
+    public boolean isMetricsEnabled() {
+        return getBooleanProperty(METRICS_ENABLED, true);
+    }
+
+    /**
+     * Prometheus 형식 metrics endpoint 경로. 기본값은 /metrics
+     */
+    public String getMetricsPath() {
+        return getProperty(METRICS_PATH, RequestMetrics.DEFAULT_PATH);
+    }
+
+    /**
+     * 응답에 처리 단계별 시간을 담은 Server-Timing header를 붙일지 여부. 기본값은 false
+     */
+    public boolean isServerTimingEnabled() {
+        return getBooleanProperty(SERVER_TIMING_ENABLED, false);
+    }
+
+    /**
+     * 핸들러 패턴별 동시 처리 수 제한 사용 여부. 기본값은 false
+     */
+    public boolean isConcurrencyLimitEnabled() {
+        return getBooleanProperty(CONCURRENCY_LIMIT_ENABLED, false);
+    }
+
+    /**
+     * 동시 처리 한도의 초깃값. 기본값은 100
+     */
+    public int getConcurrencyLimitInitial() {
+        return getIntProperty(CONCURRENCY_LIMIT_INITIAL, ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT);
+    }
+
+    /**
+     * 동시 처리 한도의 최솟값. 기본값은 10
+     */
+    public int getConcurrencyLimitMin() {
+        return getIntProperty(CONCURRENCY_LIMIT_MIN, ConcurrencyLimiter.DEFAULT_MIN_LIMIT);
+    }
+
+    /**
+     * 동시 처리 한도의 최댓값. 기본값은 1000
+     */
+    public int getConcurrencyLimitMax() {
+        return getIntProperty(CONCURRENCY_LIMIT_MAX, ConcurrencyLimiter.DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * 응답 시간이 평균의 몇 배를 넘으면 한도를 줄일지. 기본값은 2.0
+     */
+    public double getConcurrencyLimitTolerance() {
+        String value = getProperty(CONCURRENCY_LIMIT_TOLERANCE, null);
+        if (value == null) {
+            return ConcurrencyLimiter.DEFAULT_TOLERANCE;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + CONCURRENCY_LIMIT_TOLERANCE + ": " + value, e);
+        }
+    }
+
+    /**
+     * 거절 응답의 Retry-After(초). 기본값은 1
+     */
+    public long getConcurrencyLimitRetryAfter() {
+        return getLongProperty(CONCURRENCY_LIMIT_RETRY_AFTER, ConcurrencyLimiter.DEFAULT_RETRY_AFTER);
+    }
+
+    /**
+     * 핸들러 우선순위({@code @Priority}) 스케줄링 사용 여부. 기본값은 false
+     */
+    public boolean isPriorityEnabled() {
+        return getBooleanProperty(PRIORITY_ENABLED, false);
+    }
+
+    /**
+     * 핸들러를 실행할 worker 수. 기본값은 200
+     */
+    public int getPriorityWorkers() {
+        return getIntProperty(PRIORITY_WORKERS, PriorityExecutor.DEFAULT_WORKERS);
+    }
+
+    /**
+     * 우선순위 단계별 대기열 크기. 값 하나는 모든 단계에, 쉼표로 구분한 값은 0단계부터 차례로 적용합니다. 기본값은 1000
+     */
+    public int[] getPriorityQueueCapacities() {
+        String value = getProperty(PRIORITY_QUEUE_CAPACITY, Integer.toString(PriorityExecutor.DEFAULT_QUEUE_CAPACITY));
+        String[] parts = value.split(",");
+        int[] capacities = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                capacities[i] = Integer.parseInt(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + PRIORITY_QUEUE_CAPACITY + ": " + value, e);
+        }
+        return capacities;
+    }
+
+    /**
+     * 기다린 요청을 한 단계 앞으로 당기는 시간(ms). 기본값은 100
+     */
+    public long getPriorityAging() {
+        return getLongProperty(PRIORITY_AGING, PriorityExecutor.DEFAULT_AGING_MILLIS);
+    }
+
+    /**
+     * 대기열이 가득 차 거절한 응답의 Retry-After(초). 기본값은 1
+     */
+    public long getPriorityRetryAfter() {
+        return getLongProperty(PRIORITY_RETRY_AFTER, PriorityExecutor.DEFAULT_RETRY_AFTER);
+    }
+
+    /**
+     * {@code server.threads=virtual}이면 VIRTUAL, 기본값은 PLATFORM
+     */
+    public ThreadMode getThreadMode() {
+        String value = getProperty(THREADS, "platform");
+        try {
+            return ThreadMode.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + THREADS + ": " + value + " (platform or virtual)", e);
+        }
+    }
+}
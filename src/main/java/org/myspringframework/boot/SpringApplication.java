@@ -1,12 +1,38 @@
 package org.myspringframework.boot;
 
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.myspringframework.annotations.SpringBootApplication;
 import org.myspringframework.context.ApplicationContext;
 import org.myspringframework.context.InternalBeanRegistrar;
+import org.myspringframework.web.servlet.ConcurrencyLimiter;
 import org.myspringframework.web.servlet.DispatcherServlet;
+import org.myspringframework.web.servlet.HandlerAdapter;
+import org.myspringframework.web.servlet.PriorityExecutor;
+import org.myspringframework.web.servlet.RequestMetrics;
+import org.myspringframework.web.servlet.ResponseWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 
 public class SpringApplication {
     private Class<?> primarySource;
@@ -24,28 +50,231 @@ public class SpringApplication {
         beanRegistrar.registerBeans(context);
         context.refresh(primarySource);
 
-        startServer(context);
+        startServer(context, new ServerProperties(args));
 
         return context;
     }
 
-    private void startServer(ApplicationContext context) {
-        Server server = new Server(8080);
+    private void startServer(ApplicationContext context, ServerProperties properties) {
+        Server server = createServer(context, properties);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(server, context), "shutdown"));
+        try {
+            server.start();
+            server.join();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to start the server", e);
+        }
+    }
+
+    /**
+     * 설정을 적용한 내장 서버를 만듭니다. 서버를 시작하지는 않습니다.
+     * 컨텍스트의 웹 bean(DispatcherServlet, HandlerAdapter 등)에 설정을 적용하고,
+     * 우선순위 스케줄링을 켰으면 서버가 시작될 때 {@link PriorityExecutor}도 시작합니다.
+     * 멈출 때는 {@code server.shutdown.timeout}까지 처리 중인 요청을 기다립니다. (graceful stop)
+     * {@code server.unix-socket.path}를 설정하면 TCP 포트와 함께 Unix domain socket에서도 요청을 받고,
+     * {@code server.port=-1}이면 TCP 포트를 열지 않습니다.
+     * 테스트에서는 {@code --server.port=0}으로 만들어 직접 시작하고 멈출 수 있습니다.
+     */
+    public static Server createServer(ApplicationContext context, ServerProperties properties) {
+        int connectors = properties.getConnectors();
+        if (connectors > 1 && !properties.isReusePort()) {
+            throw new IllegalArgumentException(ServerProperties.CONNECTORS + "=" + connectors + " requires "
+                    + ServerProperties.REUSE_PORT + "=true");
+        }
+        Path unixSocketPath = properties.getUnixSocketPath();
+        if (!properties.isTcpEnabled() && unixSocketPath == null) {
+            throw new IllegalArgumentException(ServerProperties.PORT + "=-1 requires "
+                    + ServerProperties.UNIX_SOCKET_PATH);
+        }
 
-        ServletContextHandler handler = new ServletContextHandler(ServletContextHandler.SESSIONS);
+        Server server = new Server(createThreadPool(properties));
+        if (properties.isTcpEnabled()) {
+            for (int i = 0; i < connectors; i++) {
+                server.addConnector(createConnector(server, properties));
+            }
+        }
+        if (unixSocketPath != null) {
+            server.addConnector(createUnixDomainConnector(server, properties));
+        }
+
+        ServletContextHandler handler = new ServletContextHandler(properties.isSessionsEnabled()
+                ? ServletContextHandler.SESSIONS
+                : ServletContextHandler.NO_SESSIONS);
         handler.setContextPath("/");
 
         DispatcherServlet dispatcherServlet = context.getBean(DispatcherServlet.class);
+        dispatcherServlet.setServerTimingEnabled(properties.isServerTimingEnabled());
         ServletHolder servletHolder = new ServletHolder(dispatcherServlet);
+        servletHolder.setAsyncSupported(true);
         handler.addServlet(servletHolder, "/*");
 
-        server.setHandler(handler);
+        // 처리 중인 요청 수를 세어, 멈출 때 요청이 모두 끝나기를 기다림
+        StatisticsHandler statisticsHandler = new StatisticsHandler();
+        statisticsHandler.setHandler(handler);
+        server.setHandler(statisticsHandler);
+        server.setStopTimeout(properties.getShutdownTimeout());
+
+        configureBeans(context, properties);
+
+        PriorityExecutor priorityExecutor = context.getBean(PriorityExecutor.class);
+        if (priorityExecutor.isEnabled()) {
+            server.addEventListener(new LifeCycle.Listener() {
+                @Override
+                public void lifeCycleStarting(LifeCycle event) {
+                    priorityExecutor.start();
+                }
+            });
+        }
+        return server;
+    }
 
+    /**
+     * 서버와 컨텍스트를 순서대로 정리합니다. {@link #run}이 JVM shutdown hook으로 등록합니다.
+     * <ol>
+     *     <li>listen socket을 닫아 새 연결을 받지 않고, 처리 중인 요청(비동기 요청 포함)이 끝나기를
+     *     {@code server.shutdown.timeout}까지 기다린 뒤 서버를 멈춥니다.</li>
+     *     <li>컨텍스트를 닫아 {@code @PreDestroy} 메서드를 의존 관계의 역순으로 호출합니다.
+     *     {@link PriorityExecutor}와 response cache 갱신 executor는 여기서 남은 작업을 마칩니다.</li>
+     * </ol>
+     */
+    public static void shutdown(Server server, ApplicationContext context) {
         try {
-            server.start();
-            server.join();
+            server.stop();
         } catch (Exception e) {
-            throw new RuntimeException("Failed to start the server", e);
+            System.err.println("Failed to stop the server gracefully: " + e);
+        }
+        context.close();
+    }
+
+    private static void configureBeans(ApplicationContext context, ServerProperties properties) {
+        HandlerAdapter handlerAdapter = context.getBean(HandlerAdapter.class);
+        handlerAdapter.setAsyncTimeout(properties.getAsyncTimeout());
+        handlerAdapter.setMaxRequestBodySize(properties.getMaxRequestBodySize());
+        handlerAdapter.setRequestBodyMemoryThreshold(properties.getRequestBodyMemoryThreshold());
+
+        ResponseWriter responseWriter = context.getBean(ResponseWriter.class);
+        responseWriter.setETagEnabled(properties.isETagEnabled());
+        responseWriter.setCompressionEnabled(properties.isCompressionEnabled());
+        responseWriter.setMinResponseSize(properties.getCompressionMinResponseSize());
+        responseWriter.setCompressionLevel(properties.getCompressionLevel());
+        responseWriter.setCacheSize(properties.getCompressionCacheSize());
+        responseWriter.setCacheMaxBytes(properties.getCompressionCacheMaxBytes());
+
+        RequestMetrics requestMetrics = context.getBean(RequestMetrics.class);
+        requestMetrics.setEnabled(properties.isMetricsEnabled());
+        requestMetrics.setPath(properties.getMetricsPath());
+
+        ConcurrencyLimiter concurrencyLimiter = context.getBean(ConcurrencyLimiter.class);
+        concurrencyLimiter.setEnabled(properties.isConcurrencyLimitEnabled());
+        concurrencyLimiter.setInitialLimit(properties.getConcurrencyLimitInitial());
+        concurrencyLimiter.setMinLimit(properties.getConcurrencyLimitMin());
+        concurrencyLimiter.setMaxLimit(properties.getConcurrencyLimitMax());
+        concurrencyLimiter.setTolerance(properties.getConcurrencyLimitTolerance());
+        concurrencyLimiter.setRetryAfterSeconds(properties.getConcurrencyLimitRetryAfter());
+
+        PriorityExecutor priorityExecutor = context.getBean(PriorityExecutor.class);
+        priorityExecutor.setEnabled(properties.isPriorityEnabled());
+        priorityExecutor.setWorkers(properties.getPriorityWorkers());
+        priorityExecutor.setVirtualThreads(properties.getThreadMode() == ServerProperties.ThreadMode.VIRTUAL);
+        priorityExecutor.setAgingMillis(properties.getPriorityAging());
+        priorityExecutor.setRetryAfterSeconds(properties.getPriorityRetryAfter());
+        priorityExecutor.setShutdownTimeout(properties.getShutdownTimeout());
+        int[] queueCapacities = properties.getPriorityQueueCapacities();
+        if (queueCapacities.length == 1) {
+            priorityExecutor.setQueueCapacity(queueCapacities[0]);
+        } else {
+            for (int level = 0; level < queueCapacities.length; level++) {
+                priorityExecutor.setQueueCapacity(level, queueCapacities[level]);
+            }
+        }
+    }
+
+    /**
+     * 요청을 처리할 thread pool을 만듭니다.
+     * VIRTUAL 모드에서는 selector 등 Jetty 내부 작업만 pool의 플랫폼 스레드에서 실행하고,
+     * 요청 처리는 작업마다 새 virtual thread에서 실행합니다. 블로킹 I/O가 많은 핸들러에서도 pool 크기에 묶이지 않습니다.
+     * JDK가 virtual thread를 지원하지 않으면(JDK 21 미만) PLATFORM 모드로 실행합니다.
+     */
+    public static QueuedThreadPool createThreadPool(ServerProperties properties) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(properties.getThreadPoolMax(), properties.getThreadPoolMin(),
+                properties.getThreadPoolIdleTimeout());
+        threadPool.setName("http");
+        if (properties.getThreadMode() == ServerProperties.ThreadMode.VIRTUAL) {
+            if (VirtualThreads.areSupported()) {
+                threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+            } else {
+                System.out.println("Virtual threads are not supported by this JDK (" + Runtime.version()
+                        + "), falling back to platform threads");
+            }
+        }
+        return threadPool;
+    }
+
+    /**
+     * {@code server.protocols}에 따라 HTTP/1.1, h2c 또는 둘 다 받는 connector를 만듭니다.
+     * 둘 다 받으면 HTTP/1.1 연결로 시작하고, HTTP/2 preface(prior knowledge)나 {@code Upgrade: h2c} 요청이 오면 HTTP/2로 전환합니다.
+     * HTTP/2는 연결 하나에서 여러 요청을 동시에 처리하므로, 적은 연결로 많은 요청을 보내는 클라이언트(service mesh 등)에 유리합니다.
+     * acceptor, selector 수와 SO_REUSEPORT, idle timeout, buffer/header 크기도 설정에서 읽습니다.
+     */
+    public static ServerConnector createConnector(Server server, ServerProperties properties) {
+        ServerConnector connector = new ServerConnector(server, properties.getAcceptors(), properties.getSelectors(),
+                createConnectionFactories(properties));
+        connector.setPort(properties.getPort());
+        connector.setIdleTimeout(properties.getIdleTimeout());
+        connector.setAcceptQueueSize(properties.getAcceptQueueSize());
+        connector.setReusePort(properties.isReusePort());
+        return connector;
+    }
+
+    /**
+     * {@code server.unix-socket.path}에서 요청을 받는 connector를 만듭니다. 같은 호스트의 proxy(sidecar)가 보내는 요청을
+     * TCP/IP 스택을 거치지 않고 받을 수 있습니다. 프로토콜, idle timeout, buffer/header 크기는 TCP connector와 같습니다.
+     * 이전 프로세스가 비정상 종료해서 남은 socket 파일은 아무도 listen하지 않을 때만 지웁니다.
+     */
+    public static UnixDomainServerConnector createUnixDomainConnector(Server server, ServerProperties properties) {
+        Path path = properties.getUnixSocketPath();
+        deleteStaleSocket(path);
+        UnixDomainServerConnector connector = new UnixDomainServerConnector(server, properties.getAcceptors(),
+                properties.getSelectors(), createConnectionFactories(properties));
+        connector.setUnixDomainPath(path);
+        connector.setIdleTimeout(properties.getIdleTimeout());
+        connector.setAcceptQueueSize(properties.getAcceptQueueSize());
+        return connector;
+    }
+
+    private static ConnectionFactory[] createConnectionFactories(ServerProperties properties) {
+        HttpConfiguration httpConfiguration = new HttpConfiguration();
+        httpConfiguration.setOutputBufferSize(properties.getOutputBufferSize());
+        httpConfiguration.setRequestHeaderSize(properties.getRequestHeaderSize());
+        httpConfiguration.setResponseHeaderSize(properties.getResponseHeaderSize());
+        List<ConnectionFactory> connectionFactories = new ArrayList<>();
+        for (ServerProperties.Protocol protocol : properties.getProtocols()) {
+            switch (protocol) {
+                case HTTP_1_1 -> connectionFactories.add(new HttpConnectionFactory(httpConfiguration));
+                case H2C -> {
+                    HTTP2CServerConnectionFactory h2c = new HTTP2CServerConnectionFactory(httpConfiguration);
+                    h2c.setMaxConcurrentStreams(properties.getHttp2MaxConcurrentStreams());
+                    h2c.setInitialStreamRecvWindow(properties.getHttp2InitialStreamWindow());
+                    h2c.setInitialSessionRecvWindow(properties.getHttp2InitialSessionWindow());
+                    connectionFactories.add(h2c);
+                }
+            }
+        }
+        return connectionFactories.toArray(new ConnectionFactory[0]);
+    }
+
+    private static void deleteStaleSocket(Path path) {
+        try {
+            if (!Files.exists(path) || !Files.readAttributes(path, BasicFileAttributes.class).isOther()) {
+                return; // socket 파일이 아니면 지우지 않고, bind할 때 실패하게 함
+            }
+            try (SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(path))) {
+                return; // 다른 프로세스가 사용 중
+            } catch (ConnectException e) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete stale socket " + path, e);
         }
     }
 
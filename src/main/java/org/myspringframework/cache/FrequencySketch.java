@@ -0,0 +1,85 @@
+package org.myspringframework.cache;
+
+/**
+ * 키의 최근 접근 빈도를 추정하는 4-bit Count-Min Sketch입니다. (TinyLFU)
+ * long 하나에 4-bit counter 16개를 담고, 키마다 서로 다른 4개의 counter를 증가시킨 뒤 최솟값을 빈도로 사용합니다.
+ * 증가 횟수가 sample size에 도달하면 모든 counter를 절반으로 줄여 오래된 빈도가 사라지도록 합니다.
+ * 이 클래스는 thread-safe하지 않으므로 cache의 lock 안에서만 사용합니다.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_TABLE_SIZE = 1 << 24;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(long maximumEntries) {
+        int length = (int) Math.min(MAX_TABLE_SIZE, Math.max(16, Long.highestOneBit(Math.max(1, maximumEntries - 1)) << 1));
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * length;
+    }
+
+    /**
+     * 추정 빈도 (0~15)
+     */
+    int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 모든 counter를 절반으로 줄입니다. (aging)
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = size >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,367 @@
+package org.myspringframework.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * W-TinyLFU 정책을 사용하는 in-process cache입니다.
+ * <ul>
+ *     <li>새 entry는 작은 window LRU(전체의 1%)에 들어갑니다.</li>
+ *     <li>window에서 밀려난 entry는 main 영역(SLRU: probation 20%, protected 80%)의 희생 후보와 접근 빈도를 비교하여,
+ *     더 자주 사용된 쪽만 남깁니다. 빈도는 {@link FrequencySketch}로 추정하므로 한 번만 조회되는 키가 hot entry를 밀어내지 않습니다.</li>
+ *     <li>용량은 entry 수와 weight(예: byte 크기) 두 가지로 제한합니다.</li>
+ * </ul>
+ * 조회는 lock 없이 {@link ConcurrentHashMap}에서 읽고, 접근 기록만 lossy ring buffer에 남겨 두었다가 lock을 잡은 스레드가 한꺼번에 반영합니다.
+ * 쓰기와 제거는 lock 안에서 바로 정책에 반영합니다.
+ */
+public class TinyLfuCache<K, V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = 3;
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD_MASK = 31; // 32번 기록마다 drain 시도
+
+    private final long maximumWeight;
+    private final int maximumEntries;
+    private final ToIntBiFunction<K, V> weigher;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readCounter = new AtomicLong();
+
+    // 아래 필드는 lock 안에서만 접근합니다.
+    private final Deque<K, V> window = new Deque<>();
+    private final Deque<K, V> probation = new Deque<>();
+    private final Deque<K, V> protectedQueue = new Deque<>();
+    private final long windowMaximumWeight;
+    private final int windowMaximumEntries;
+    private final long protectedMaximumWeight;
+    private final int protectedMaximumEntries;
+    private long totalWeight;
+
+    /**
+     * @param maximumWeight  weight 합계의 최댓값
+     * @param maximumEntries entry 수의 최댓값
+     * @param weigher        entry의 weight (0 이상)
+     */
+    public TinyLfuCache(long maximumWeight, int maximumEntries, ToIntBiFunction<K, V> weigher) {
+        if (maximumWeight <= 0 || maximumEntries <= 0) {
+            throw new IllegalArgumentException("maximumWeight and maximumEntries must be positive");
+        }
+        this.maximumWeight = maximumWeight;
+        this.maximumEntries = maximumEntries;
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(maximumEntries);
+
+        this.windowMaximumWeight = Math.max(1, maximumWeight / 100);
+        this.windowMaximumEntries = Math.max(1, maximumEntries / 100);
+        this.protectedMaximumWeight = (long) ((maximumWeight - windowMaximumWeight) * 0.8);
+        this.protectedMaximumEntries = (int) ((maximumEntries - windowMaximumEntries) * 0.8);
+    }
+
+    /**
+     * @return 값이 없으면 null
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        recordRead(node != null ? node : key);
+        return node == null ? null : node.value;
+    }
+
+    public void put(K key, V value) {
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight: " + weight);
+        }
+
+        lock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(key.hashCode());
+
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                totalWeight += weight - node.weight;
+                queueOf(node).weight += weight - node.weight;
+                node.weight = weight;
+                node.value = value;
+                onAccess(node);
+            } else {
+                node = new Node<>(key, value, weight);
+                data.put(key, node);
+                node.queue = WINDOW;
+                window.addLast(node);
+                totalWeight += weight;
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 접근 기록을 buffer에 남깁니다. buffer가 꽉 찼으면 기록을 버립니다. (빈도 추정에는 근사치로 충분)
+     */
+    private void recordRead(Object access) {
+        long count = readCounter.getAndIncrement();
+        readBuffer.compareAndSet((int) (count & READ_BUFFER_MASK), null, access);
+        if ((count & DRAIN_THRESHOLD_MASK) == DRAIN_THRESHOLD_MASK && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Object access = readBuffer.getAndSet(i, null);
+            if (access == null) {
+                continue;
+            }
+            if (access instanceof Node) {
+                Node<K, V> node = (Node<K, V>) access;
+                sketch.increment(node.key.hashCode());
+                if (node.queue != REMOVED) {
+                    onAccess(node);
+                }
+            } else {
+                sketch.increment(access.hashCode());
+            }
+        }
+    }
+
+    /**
+     * 접근한 entry를 LRU 순서상 가장 최근으로 옮기고, probation에서 다시 접근되면 protected로 승격합니다.
+     */
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                // protected가 넘치면 가장 오래된 entry를 probation으로 강등
+                while (protectedQueue.weight > protectedMaximumWeight || protectedQueue.count > protectedMaximumEntries) {
+                    Node<K, V> demoted = protectedQueue.pollFirst();
+                    if (demoted == null || demoted == node) {
+                        if (demoted != null) {
+                            protectedQueue.addLast(demoted);
+                        }
+                        break;
+                    }
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> protectedQueue.moveToLast(node);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * window가 넘치면 window의 LRU entry를 main으로 옮기고, 전체가 넘치면 후보와 희생자 중 빈도가 낮은 쪽을 제거합니다.
+     */
+    private void evict() {
+        while (window.weight > windowMaximumWeight || window.count > windowMaximumEntries) {
+            Node<K, V> candidate = window.pollFirst();
+            if (candidate == null) {
+                break;
+            }
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            admit(candidate);
+        }
+
+        // window 자체가 전체 용량을 넘는 경우 (매우 큰 entry)
+        while (isOverCapacity()) {
+            Node<K, V> victim = probation.peekFirst() != null ? probation.peekFirst()
+                    : protectedQueue.peekFirst() != null ? protectedQueue.peekFirst()
+                    : window.peekFirst();
+            if (victim == null) {
+                break;
+            }
+            remove(victim);
+        }
+    }
+
+    private void admit(Node<K, V> candidate) {
+        while (isOverCapacity() && candidate.queue != REMOVED) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == candidate) {
+                victim = candidate.next != null ? candidate.next : protectedQueue.peekFirst();
+            }
+            if (victim == null) {
+                remove(candidate);
+                return;
+            }
+            if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+        }
+    }
+
+    private boolean isOverCapacity() {
+        return totalWeight > maximumWeight || data.size() > maximumEntries;
+    }
+
+    private void remove(Node<K, V> node) {
+        if (node.queue == REMOVED) {
+            return;
+        }
+        queueOf(node).remove(node);
+        node.queue = REMOVED;
+        data.remove(node.key, node);
+        totalWeight -= node.weight;
+    }
+
+    private Deque<K, V> queueOf(Node<K, V> node) {
+        return switch (node.queue) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            default -> protectedQueue;
+        };
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private int weight;
+        private int queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 노드에 prev/next를 직접 두는 LRU 순서의 이중 연결 리스트 (first가 가장 오래된 entry)
+     */
+    private static final class Deque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private long weight;
+        private int count;
+
+        private void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            weight += node.weight;
+            count++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+            count--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private Node<K, V> peekFirst() {
+            return first;
+        }
+
+        private Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        private void clear() {
+            Node<K, V> node = first;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.queue = REMOVED;
+                node = next;
+            }
+            first = null;
+            last = null;
+            weight = 0;
+            count = 0;
+        }
+    }
+}
@@ -6,18 +6,26 @@ import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.myspringframework.annotations.Autowired;
 import org.myspringframework.annotations.Component;
+import org.myspringframework.annotations.PostConstruct;
+import org.myspringframework.annotations.PreDestroy;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 public class ApplicationContext {
     private Map<Class<?>, Object> beanRegistry;
+    private final List<Class<?>> registrationOrder = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public ApplicationContext() {
         this.beanRegistry = new ConcurrentHashMap<>();
@@ -26,6 +34,7 @@ public class ApplicationContext {
     public void refresh(Class<?> primarySource) {
         scanAndRegisterBeans(primarySource.getPackageName());
         autowire();
+        invokePostConstruct();
     }
 
     public void scanAndRegisterBeans(String basePackage) {
@@ -148,7 +157,9 @@ public class ApplicationContext {
     }
 
     public void registerBean(Class<?> clazz, Object bean) {
-        this.beanRegistry.put(clazz, bean);
+        if (this.beanRegistry.put(clazz, bean) == null) {
+            this.registrationOrder.add(clazz);
+        }
     }
 
     private void autowire() {
@@ -176,6 +187,90 @@ public class ApplicationContext {
         }
     }
 
+    /**
+     * 의존성 주입이 끝난 뒤 각 빈의 @PostConstruct 메서드를 의존 대상이 먼저 오는 순서로 호출합니다.
+     */
+    private void invokePostConstruct() {
+        for (Class<?> type : getInitializationOrder()) {
+            Object bean = beanRegistry.get(type);
+            for (Method method : getTargetClass(bean).getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PostConstruct.class)) {
+                    try {
+                        method.setAccessible(true);
+                        method.invoke(bean);
+                    } catch (InvocationTargetException e) {
+                        throw new RuntimeException("Failed to invoke @PostConstruct method: " + method, e.getCause());
+                    } catch (IllegalAccessException e) {
+                        throw new RuntimeException("Failed to invoke @PostConstruct method: " + method, e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 각 빈의 @PreDestroy 메서드를 초기화의 역순(다른 빈이 의존하는 빈을 나중에)으로 호출합니다.
+     * 한 빈의 @PreDestroy가 실패해도 나머지 빈은 계속 정리합니다. 두 번째 호출부터는 아무 것도 하지 않습니다.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        List<Class<?>> order = getInitializationOrder();
+        Collections.reverse(order);
+        for (Class<?> type : order) {
+            Object bean = beanRegistry.get(type);
+            for (Method method : getTargetClass(bean).getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PreDestroy.class)) {
+                    try {
+                        method.setAccessible(true);
+                        method.invoke(bean);
+                    } catch (InvocationTargetException e) {
+                        System.err.println("Failed to invoke @PreDestroy method: " + method + ": " + e.getCause());
+                    } catch (IllegalAccessException e) {
+                        System.err.println("Failed to invoke @PreDestroy method: " + method + ": " + e);
+                    }
+                }
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @Autowired 필드로 의존하는 빈이 먼저 오도록 정렬한 빈 타입 목록. 의존 관계가 없으면 등록 순서를 따르고,
+     * 순환 의존은 먼저 방문한 쪽을 나중에 둡니다.
+     */
+    List<Class<?>> getInitializationOrder() {
+        Set<Class<?>> ordered = new LinkedHashSet<>();
+        Set<Class<?>> visiting = new HashSet<>();
+        for (Class<?> type : registrationOrder) {
+            visit(type, ordered, visiting);
+        }
+        return new ArrayList<>(ordered);
+    }
+
+    private void visit(Class<?> type, Set<Class<?>> ordered, Set<Class<?>> visiting) {
+        if (ordered.contains(type) || !visiting.add(type)) {
+            return;
+        }
+        for (Field field : getTargetClass(beanRegistry.get(type)).getDeclaredFields()) {
+            if (field.isAnnotationPresent(Autowired.class) && beanRegistry.containsKey(field.getType())) {
+                visit(field.getType(), ordered, visiting);
+            }
+        }
+        ordered.add(type);
+    }
+
+    private Class<?> getTargetClass(Object bean) {
+        if (bean.getClass().getName().contains("ByteBuddy")) {
+            return bean.getClass().getSuperclass();
+        }
+        return bean.getClass();
+    }
+
     public <T> T getBean(Class<T> clazz) {
         Object bean = this.beanRegistry.get(clazz);
         if (bean == null) {
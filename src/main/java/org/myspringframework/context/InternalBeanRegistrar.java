@@ -2,14 +2,24 @@ package org.myspringframework.context;
 
 import org.myspringframework.mapper.JsonParser;
 import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.web.servlet.ConcurrencyLimiter;
 import org.myspringframework.web.servlet.DispatcherServlet;
 import org.myspringframework.web.servlet.HandlerAdapter;
 import org.myspringframework.web.servlet.HandlerMapping;
+import org.myspringframework.web.servlet.PriorityExecutor;
+import org.myspringframework.web.servlet.RequestMetrics;
+import org.myspringframework.web.servlet.ResponseCacheManager;
+import org.myspringframework.web.servlet.ResponseWriter;
 
 public class InternalBeanRegistrar {
     public void registerBeans(ApplicationContext context) {
         context.registerBean(HandlerMapping.class, new HandlerMapping(context));
         context.registerBean(HandlerAdapter.class, new HandlerAdapter());
+        context.registerBean(ResponseWriter.class, new ResponseWriter());
+        context.registerBean(ResponseCacheManager.class, new ResponseCacheManager());
+        context.registerBean(RequestMetrics.class, new RequestMetrics());
+        context.registerBean(ConcurrencyLimiter.class, new ConcurrencyLimiter());
+        context.registerBean(PriorityExecutor.class, new PriorityExecutor());
         context.registerBean(DispatcherServlet.class, new DispatcherServlet());
         context.registerBean(ObjectMapper.class, new ObjectMapper());
         context.registerBean(JsonParser.class, new JsonParser());
@@ -25,7 +25,17 @@ public class JsonParser {
             return parseArray(value);
         } else if (value.startsWith("\"")) {
             return parseString(value);
-        } else if (value.equals("true") || value.equals("false")) {
+        } else {
+            return parseLiteral(value);
+        }
+    }
+
+    /**
+     * 따옴표 없는 literal(true, false, null, 숫자)을 변환합니다.
+     * 바이트 단위로 파싱하는 reader들도 같은 값을 만들도록 이 메서드를 공유합니다.
+     */
+    static Object parseLiteral(String value) {
+        if (value.equals("true") || value.equals("false")) {
             return Boolean.parseBoolean(value);
         } else if (value.equals("null")) {
             return null;
@@ -0,0 +1,14 @@
+package org.myspringframework.mapper;
+
+/**
+ * JSON 입력을 구성하는 token 종류입니다.
+ */
+public enum JsonToken {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    FIELD_NAME,
+    VALUE_STRING,
+    VALUE_LITERAL // 숫자, true, false, null
+}
@@ -0,0 +1,333 @@
+package org.myspringframework.mapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * UTF-8 JSON 바이트를 String으로 만들지 않고 그 자리에서 파싱합니다.
+ * 파일은 {@link FileChannel#map}으로 window 단위로 매핑되므로 2GB보다 큰 파일도 읽을 수 있습니다.
+ * 반환하는 값의 형태(HashMap, ArrayList, String, Number, Boolean, null)는 {@link JsonParser#parse(String)}와 같습니다.
+ */
+public class MappedJsonReader implements Closeable {
+    static final long DEFAULT_WINDOW_SIZE = 1L << 28; // 256MB
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+
+    private ByteBuffer window;
+    private long windowStart;
+
+    // 문자열, literal 파싱에 재사용하는 버퍼
+    private final StringBuilder buffer = new StringBuilder();
+
+    public MappedJsonReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedJsonReader(Path path, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.windowStart = 0;
+        this.window = ByteBuffer.allocate(0);
+        remap();
+    }
+
+    /**
+     * 이미 메모리에 있는 바이트(예: 요청 body)를 파싱합니다.
+     */
+    public MappedJsonReader(ByteBuffer buffer) {
+        this.channel = null;
+        this.size = buffer.remaining();
+        this.windowSize = size;
+        this.windowStart = 0;
+        this.window = buffer.slice();
+    }
+
+    /**
+     * 다음 JSON 값을 하나 읽습니다.
+     *
+     * @return Java object
+     * @throws IllegalArgumentException if the JSON is invalid or no value is left
+     */
+    public Object readValue() {
+        skipWhitespace();
+        if (peek() < 0) {
+            throw new IllegalArgumentException("Unexpected end of input at position " + position());
+        }
+        return parseValue();
+    }
+
+    /**
+     * 공백을 제외하고 읽을 값이 남아있는지 확인합니다.
+     */
+    public boolean hasMoreValues() {
+        skipWhitespace();
+        return peek() >= 0;
+    }
+
+    /**
+     * 최상위 배열을 원소 단위로 읽기 위해 여는 대괄호를 소비합니다.
+     *
+     * @return 최상위 값이 배열이면 true
+     */
+    boolean beginArray() {
+        skipWhitespace();
+        if (peek() != '[') {
+            return false;
+        }
+        next();
+        return true;
+    }
+
+    /**
+     * 배열의 다음 원소가 있으면 true를 반환하고, 닫는 대괄호를 만나면 소비한 뒤 false를 반환합니다.
+     */
+    boolean hasNextElement() {
+        skipWhitespace();
+        int c = peek();
+        if (c == ',') {
+            next();
+            skipWhitespace();
+            c = peek();
+        }
+        if (c == ']') {
+            next();
+            return false;
+        }
+        if (c < 0) {
+            throw new IllegalArgumentException("Closing bracket not found");
+        }
+        return true;
+    }
+
+    private Object parseValue() {
+        int c = peek();
+        return switch (c) {
+            case '{' -> parseMap();
+            case '[' -> parseArray();
+            case '"' -> parseString();
+            default -> parseLiteral();
+        };
+    }
+
+    private HashMap<String, Object> parseMap() {
+        HashMap<String, Object> res = new HashMap<>();
+        next(); // '{'
+
+        skipWhitespace();
+        if (peek() == '}') {
+            next();
+            return res;
+        }
+
+        while (true) {
+            // key 파싱
+            skipWhitespace();
+            if (peek() != '"') {
+                throw new IllegalArgumentException("Expected '\"' at position " + position());
+            }
+            String key = parseString();
+
+            // 공백과 ':' 문자를 건너뜁니다.
+            skipWhitespace();
+            if (peek() != ':') {
+                throw new IllegalArgumentException("Expected ':' after key at position " + position());
+            }
+            next();
+            skipWhitespace();
+
+            // value 파싱
+            res.put(key, parseValue());
+
+            skipWhitespace();
+            int c = next();
+            if (c == '}') {
+                return res;
+            }
+            if (c != ',') {
+                throw new IllegalArgumentException("Closing brace not found");
+            }
+        }
+    }
+
+    private List<Object> parseArray() {
+        List<Object> res = new ArrayList<>();
+        next(); // '['
+
+        skipWhitespace();
+        if (peek() == ']') {
+            next();
+            return res;
+        }
+
+        while (true) {
+            skipWhitespace();
+            res.add(parseValue());
+
+            skipWhitespace();
+            int c = next();
+            if (c == ']') {
+                return res;
+            }
+            if (c != ',') {
+                throw new IllegalArgumentException("Closing bracket not found");
+            }
+        }
+    }
+
+    private String parseString() {
+        next(); // '"'
+        buffer.setLength(0);
+
+        while (true) {
+            int b = next();
+            if (b < 0) {
+                throw new IllegalArgumentException("Closing quote not found");
+            }
+            if (b == '"') {
+                return buffer.toString();
+            }
+            if (b == '\\') {
+                readEscape();
+            } else if (b < 0x80) {
+                buffer.append((char) b);
+            } else {
+                readMultiByte(b);
+            }
+        }
+    }
+
+    private void readEscape() {
+        int next = next();
+        switch (next) {
+            case '"' -> buffer.append('"');
+            case '\\' -> buffer.append('\\');
+            case '/' -> buffer.append('/');
+            case 'b' -> buffer.append('\b');
+            case 'f' -> buffer.append('\f');
+            case 'n' -> buffer.append('\n');
+            case 'r' -> buffer.append('\r');
+            case 't' -> buffer.append('\t');
+            case 'u' -> {
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw new IllegalArgumentException("Invalid unicode escape at position " + position());
+                    }
+                    code = (code << 4) | digit;
+                }
+                buffer.append((char) code);
+            }
+            default -> throw new IllegalArgumentException("Invalid escape at position " + position());
+        }
+    }
+
+    /**
+     * UTF-8 multi-byte sequence를 code point로 변환합니다.
+     */
+    private void readMultiByte(int lead) {
+        int count;
+        int codePoint;
+        if ((lead & 0xE0) == 0xC0) {
+            count = 1;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            count = 2;
+            codePoint = lead & 0x0F;
+        } else if ((lead & 0xF8) == 0xF0) {
+            count = 3;
+            codePoint = lead & 0x07;
+        } else {
+            throw new IllegalArgumentException("Invalid UTF-8 byte at position " + position());
+        }
+
+        for (int i = 0; i < count; i++) {
+            int b = next();
+            if ((b & 0xC0) != 0x80) {
+                throw new IllegalArgumentException("Invalid UTF-8 byte at position " + position());
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        buffer.appendCodePoint(codePoint);
+    }
+
+    private Object parseLiteral() {
+        // parse literals (number, true, false, null)
+        buffer.setLength(0);
+        int c;
+        while ((c = peek()) >= 0 && !isDelimiter(c)) {
+            buffer.append((char) next());
+        }
+        if (buffer.isEmpty()) {
+            throw new IllegalArgumentException("Unexpected character at position " + position());
+        }
+
+        return JsonParser.parseLiteral(buffer.toString());
+    }
+
+    private boolean isDelimiter(int c) {
+        return c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+
+    private void skipWhitespace() {
+        int c;
+        while ((c = peek()) >= 0 && Character.isWhitespace(c)) {
+            next();
+        }
+    }
+
+    private int peek() {
+        if (!window.hasRemaining() && !remap()) {
+            return -1;
+        }
+        return window.get(window.position()) & 0xFF;
+    }
+
+    private int next() {
+        if (!window.hasRemaining() && !remap()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    private long position() {
+        return windowStart + window.position();
+    }
+
+    /**
+     * 현재 window를 다 읽었으면 다음 구간을 매핑합니다.
+     *
+     * @return 읽을 바이트가 남아 있으면 true
+     */
+    private boolean remap() {
+        long nextStart = windowStart + window.limit();
+        if (channel == null || nextStart >= size) {
+            return false;
+        }
+        try {
+            long length = Math.min(windowSize, size - nextStart);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, nextStart, length);
+            windowStart = nextStart;
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to map file region at " + nextStart, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.myspringframework.mapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * JSON 파일의 값을 하나씩 읽어 변환하는 Iterator입니다.
+ * 최상위 값이 배열이면 원소 단위로, 아니면 공백으로 구분된 최상위 값 단위(NDJSON)로 읽습니다.
+ * 사용이 끝나면 {@link #close()}로 파일을 닫아야 합니다.
+ */
+public class MappingIterator<T> implements Iterator<T>, Closeable {
+    private final MappedJsonReader reader;
+    private final Function<Object, T> converter;
+    private final boolean array;
+    private Boolean hasNext;
+
+    MappingIterator(MappedJsonReader reader, Function<Object, T> converter) {
+        this.reader = reader;
+        this.converter = converter;
+        this.array = reader.beginArray();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext == null) {
+            hasNext = array ? reader.hasNextElement() : reader.hasMoreValues();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasNext = null;
+        return converter.apply(reader.readValue());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,334 @@
+package org.myspringframework.mapper;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 입력을 임의의 크기로 나뉜 chunk 단위로 받아 파싱하는 non-blocking JSON 파서입니다.
+ * 입력이 모자라면 기다리지 않고 {@link Status#NEED_MORE_INPUT}을 반환하므로,
+ * Servlet async I/O의 {@code ReadListener.onDataAvailable}에서 도착한 바이트만큼 먹이는 식으로 사용할 수 있습니다.
+ * <pre>
+ * while (input.isReady() &amp;&amp; (n = input.read(buf)) != -1) {
+ *     if (parser.feed(ByteBuffer.wrap(buf, 0, n)) == Status.VALUE_COMPLETE) { ... parser.getValue() ... }
+ * }
+ * // onAllDataRead
+ * if (parser.endOfInput() == Status.VALUE_COMPLETE) { ... }
+ * </pre>
+ * UTF-8 바이트를 {@link JsonToken} 단위로 나누고, token으로 값을 조립합니다.
+ * 만들어지는 값은 {@link JsonParser#parse(String)}와 같습니다.
+ * 이 클래스는 thread-safe하지 않습니다.
+ */
+public class NonBlockingJsonParser {
+    public enum Status {
+        NEED_MORE_INPUT,
+        VALUE_COMPLETE,
+        END_OF_INPUT
+    }
+
+    // token 사이의 구문 상태
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_VALUE_OR_END = 1; // '[' 직후
+    private static final int EXPECT_KEY_OR_END = 2;   // '{' 직후
+    private static final int EXPECT_KEY = 3;
+    private static final int EXPECT_COLON = 4;
+    private static final int EXPECT_COMMA_OR_END = 5;
+    private static final int COMPLETE = 6;
+
+    // token 내부 상태 (chunk 경계에 걸친 token을 이어서 읽기 위함)
+    private static final int LEXER_NONE = 0;
+    private static final int LEXER_STRING = 1;
+    private static final int LEXER_LITERAL = 2;
+
+    private int state = EXPECT_VALUE;
+    private int lexer = LEXER_NONE;
+
+    private boolean fieldName;
+    private int escape;        // 0: 없음, 1: '\' 직후, 2~5: unicode escape 자릿수
+    private int unicode;
+    private int utf8Remaining; // multi-byte 문자의 남은 바이트 수
+    private int codePoint;
+    private final StringBuilder text = new StringBuilder();
+
+    private final ArrayDeque<Object> containers = new ArrayDeque<>();
+    private final ArrayDeque<String> keys = new ArrayDeque<>();
+    private Object value;
+    private long offset;
+
+    /**
+     * chunk를 파싱합니다. 최상위 값이 완성되면 나머지 바이트는 input에 남겨둔 채 반환합니다.
+     *
+     * @param input 새로 도착한 바이트
+     * @return 값이 완성되면 VALUE_COMPLETE, 아니면 NEED_MORE_INPUT
+     * @throws IllegalArgumentException if the JSON is invalid
+     */
+    public Status feed(ByteBuffer input) {
+        while (true) {
+            if (state == COMPLETE) {
+                return Status.VALUE_COMPLETE;
+            }
+            if (!input.hasRemaining()) {
+                return Status.NEED_MORE_INPUT;
+            }
+            int b = input.get(input.position()) & 0xFF;
+            if (consume(b)) {
+                input.position(input.position() + 1);
+                offset++;
+            }
+        }
+    }
+
+    /**
+     * 입력이 끝났음을 알립니다. 구분자 없이 끝난 최상위 숫자 등을 마무리합니다.
+     *
+     * @return 값이 완성되면 VALUE_COMPLETE, 남은 값이 없으면 END_OF_INPUT
+     * @throws IllegalArgumentException if the input ends in the middle of a value
+     */
+    public Status endOfInput() {
+        if (lexer == LEXER_LITERAL) {
+            finishLiteral();
+        }
+        if (state == COMPLETE) {
+            return Status.VALUE_COMPLETE;
+        }
+        if (lexer == LEXER_STRING) {
+            throw new IllegalArgumentException("Closing quote not found");
+        }
+        if (!containers.isEmpty()) {
+            throw new IllegalArgumentException("Unexpected end of input at position " + offset);
+        }
+        return Status.END_OF_INPUT;
+    }
+
+    /**
+     * 완성된 최상위 값을 반환하고 다음 값을 읽을 준비를 합니다.
+     */
+    public Object getValue() {
+        if (state != COMPLETE) {
+            throw new IllegalStateException("No complete value available");
+        }
+        Object result = value;
+        value = null;
+        state = EXPECT_VALUE;
+        return result;
+    }
+
+    /**
+     * 바이트 하나를 처리합니다.
+     *
+     * @return 바이트를 소비했으면 true, 상태만 바꾸고 다시 처리해야 하면 false
+     */
+    private boolean consume(int b) {
+        if (lexer == LEXER_STRING) {
+            readStringByte(b);
+            return true;
+        }
+        if (lexer == LEXER_LITERAL) {
+            if (isDelimiter(b)) {
+                finishLiteral();
+                return false;
+            }
+            text.append((char) b);
+            return true;
+        }
+        if (Character.isWhitespace(b)) {
+            return true;
+        }
+
+        switch (state) {
+            case EXPECT_VALUE_OR_END:
+                if (b == ']') {
+                    onToken(JsonToken.END_ARRAY, null);
+                    return true;
+                }
+                startValue(b);
+                return true;
+            case EXPECT_VALUE:
+                startValue(b);
+                return true;
+            case EXPECT_KEY_OR_END:
+                if (b == '}') {
+                    onToken(JsonToken.END_OBJECT, null);
+                    return true;
+                }
+                startKey(b);
+                return true;
+            case EXPECT_KEY:
+                startKey(b);
+                return true;
+            case EXPECT_COLON:
+                if (b != ':') {
+                    throw new IllegalArgumentException("Expected ':' after key at position " + offset);
+                }
+                state = EXPECT_VALUE;
+                return true;
+            case EXPECT_COMMA_OR_END:
+                boolean inObject = containers.peek() instanceof Map;
+                if (b == ',') {
+                    state = inObject ? EXPECT_KEY : EXPECT_VALUE;
+                } else if (b == '}' && inObject) {
+                    onToken(JsonToken.END_OBJECT, null);
+                } else if (b == ']' && !inObject) {
+                    onToken(JsonToken.END_ARRAY, null);
+                } else {
+                    throw new IllegalArgumentException((inObject ? "Closing brace not found" : "Closing bracket not found")
+                            + " at position " + offset);
+                }
+                return true;
+            default:
+                throw new IllegalStateException("Unexpected parser state: " + state);
+        }
+    }
+
+    /**
+     * key는 문자열이여야 합니다.
+     */
+    private void startKey(int b) {
+        if (b != '"') {
+            throw new IllegalArgumentException("Expected '\"' at position " + offset);
+        }
+        startString(true);
+    }
+
+    private void startValue(int b) {
+        switch (b) {
+            case '{' -> onToken(JsonToken.START_OBJECT, null);
+            case '[' -> onToken(JsonToken.START_ARRAY, null);
+            case '"' -> startString(false);
+            case ',', ':', '}', ']' -> throw new IllegalArgumentException("Unexpected character '" + (char) b + "' at position " + offset);
+            default -> {
+                lexer = LEXER_LITERAL;
+                text.setLength(0);
+                text.append((char) b);
+            }
+        }
+    }
+
+    private void startString(boolean isFieldName) {
+        lexer = LEXER_STRING;
+        fieldName = isFieldName;
+        text.setLength(0);
+    }
+
+    private void readStringByte(int b) {
+        if (utf8Remaining > 0) {
+            if ((b & 0xC0) != 0x80) {
+                throw new IllegalArgumentException("Invalid UTF-8 byte at position " + offset);
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            if (--utf8Remaining == 0) {
+                text.appendCodePoint(codePoint);
+            }
+            return;
+        }
+
+        if (escape == 1) {
+            readEscape(b);
+            return;
+        }
+
+        if (escape >= 2) {
+            int digit = Character.digit(b, 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid unicode escape at position " + offset);
+            }
+            unicode = (unicode << 4) | digit;
+            if (++escape == 6) {
+                text.append((char) unicode);
+                escape = 0;
+            }
+            return;
+        }
+
+        if (b == '"') {
+            lexer = LEXER_NONE;
+            onToken(fieldName ? JsonToken.FIELD_NAME : JsonToken.VALUE_STRING, text.toString());
+        } else if (b == '\\') {
+            escape = 1;
+        } else if (b < 0x80) {
+            text.append((char) b);
+        } else if ((b & 0xE0) == 0xC0) {
+            utf8Remaining = 1;
+            codePoint = b & 0x1F;
+        } else if ((b & 0xF0) == 0xE0) {
+            utf8Remaining = 2;
+            codePoint = b & 0x0F;
+        } else if ((b & 0xF8) == 0xF0) {
+            utf8Remaining = 3;
+            codePoint = b & 0x07;
+        } else {
+            throw new IllegalArgumentException("Invalid UTF-8 byte at position " + offset);
+        }
+    }
+
+    private void readEscape(int b) {
+        escape = 0;
+        switch (b) {
+            case '"' -> text.append('"');
+            case '\\' -> text.append('\\');
+            case '/' -> text.append('/');
+            case 'b' -> text.append('\b');
+            case 'f' -> text.append('\f');
+            case 'n' -> text.append('\n');
+            case 'r' -> text.append('\r');
+            case 't' -> text.append('\t');
+            case 'u' -> {
+                escape = 2;
+                unicode = 0;
+            }
+            default -> throw new IllegalArgumentException("Invalid escape at position " + offset);
+        }
+    }
+
+    private void finishLiteral() {
+        lexer = LEXER_NONE;
+        onToken(JsonToken.VALUE_LITERAL, text.toString());
+    }
+
+    /**
+     * token으로 값을 조립합니다.
+     */
+    private void onToken(JsonToken token, String tokenText) {
+        switch (token) {
+            case START_OBJECT -> {
+                containers.push(new HashMap<String, Object>());
+                state = EXPECT_KEY_OR_END;
+            }
+            case START_ARRAY -> {
+                containers.push(new ArrayList<>());
+                state = EXPECT_VALUE_OR_END;
+            }
+            case END_OBJECT, END_ARRAY -> completeValue(containers.pop());
+            case FIELD_NAME -> {
+                keys.push(tokenText);
+                state = EXPECT_COLON;
+            }
+            case VALUE_STRING -> completeValue(tokenText);
+            case VALUE_LITERAL -> completeValue(JsonParser.parseLiteral(tokenText));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeValue(Object completed) {
+        Object container = containers.peek();
+        if (container == null) {
+            value = completed;
+            state = COMPLETE;
+            return;
+        }
+
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put(keys.pop(), completed);
+        } else {
+            ((List<Object>) container).add(completed);
+        }
+        state = EXPECT_COMMA_OR_END;
+    }
+
+    private boolean isDelimiter(int c) {
+        return c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+}
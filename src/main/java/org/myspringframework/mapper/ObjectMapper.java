@@ -2,18 +2,29 @@ package org.myspringframework.mapper;
 
 import org.myspringframework.annotations.Autowired;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 
 public class ObjectMapper {
+    // 이보다 큰 파일은 String으로 읽지 않고 메모리 매핑하여 파싱합니다.
+    private static final long DEFAULT_MAPPED_READ_THRESHOLD = 1L << 20; // 1MB
+
     @Autowired
     private JsonParser jsonParser;
 
+    private long mappedReadThreshold = DEFAULT_MAPPED_READ_THRESHOLD;
+
     public ObjectMapper() {
     }
 
@@ -33,6 +44,147 @@ public class ObjectMapper {
         return (T) readObjectValue(object, type);
     }
 
+    /**
+     * UTF-8 JSON 바이트를 객체로 변환
+     * 문자열을 만들지 않고 {@link MappedJsonReader}로 바이트를 그대로 파싱합니다. (예: 요청 body, 매핑된 파일)
+     * @param json UTF-8 JSON 바이트 (position부터 limit까지)
+     * @param type 변환할 객체의 타입
+     * @return 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(ByteBuffer json, Type type) {
+        return (T) readObjectValue(new MappedJsonReader(json).readValue(), type);
+    }
+
+    /**
+     * JSON 파일을 객체로 변환
+     * 파일 크기가 threshold보다 크면 {@link MappedJsonReader}로 매핑된 바이트를 그대로 파싱합니다.
+     * @param path JSON 파일 경로
+     * @param type 변환할 객체의 타입
+     * @return 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Path path, Type type) {
+        try {
+            if (Files.size(path) <= mappedReadThreshold) {
+                return readValue(Files.readString(path), type);
+            }
+            try (MappedJsonReader reader = new MappedJsonReader(path)) {
+                return (T) readObjectValue(reader.readValue(), type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON file: " + path, e);
+        }
+    }
+
+    /**
+     * JSON 파일의 값을 하나씩 읽는 Iterator를 반환
+     * 최상위 배열은 원소 단위로, 그 외에는 최상위 값 단위로 읽습니다. 파일 전체를 메모리에 올리지 않습니다.
+     * @param path JSON 파일 경로
+     * @param type 각 원소를 변환할 타입
+     * @return 사용 후 close 해야 하는 Iterator
+     */
+    @SuppressWarnings("unchecked")
+    public <T> MappingIterator<T> readValues(Path path, Type type) {
+        try {
+            MappedJsonReader reader = new MappedJsonReader(path);
+            try {
+                return new MappingIterator<>(reader, value -> (T) readObjectValue(value, type));
+            } catch (RuntimeException e) {
+                // 첫 '['를 읽다 실패하면 Iterator를 돌려주지 못하므로 여기서 닫음
+                try {
+                    reader.close();
+                } catch (IOException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON file: " + path, e);
+        }
+    }
+
+    /**
+     * 기존 객체에 JSON을 덮어쓰는 reader를 반환
+     * JSON에 있는 필드만 갱신하고, 중첩 객체와 컬렉션은 새로 만들지 않고 재사용합니다. (merge-patch 방식)
+     * @param valueToUpdate 갱신할 객체
+     * @return ObjectReader
+     */
+    public ObjectReader readerForUpdating(Object valueToUpdate) {
+        if (valueToUpdate == null) {
+            throw new IllegalArgumentException("갱신할 객체가 null입니다.");
+        }
+        return new ObjectReader(this, valueToUpdate);
+    }
+
+    /**
+     * 파싱된 JSON 값을 기존 객체에 반영
+     */
+    @SuppressWarnings("unchecked")
+    <T> T updateValue(T valueToUpdate, String json) {
+        Object source = jsonParser.parse(json);
+        if (!(source instanceof Map)) {
+            throw new RuntimeException("JSON 구조가 객체({})가 아닌데, 기존 객체를 갱신하려 함");
+        }
+        return (T) mergeValue(valueToUpdate, source, valueToUpdate.getClass());
+    }
+
+    /**
+     * 객체를 다른 타입의 객체로 변환 (예: Map -> DTO, DTO -> 다른 DTO)
+     * JSON 문자열을 거치지 않고 원본 객체 그래프를 순회하여 readValue와 같은 타입 처리로 대상 객체를 만듭니다.
+     * @param from 원본 객체
+     * @param to 변환할 객체의 타입
+     * @return 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertValue(Object from, Type to) {
+        return (T) readObjectValue(toTree(from), to);
+    }
+
+    /**
+     * 객체를 JsonParser가 만드는 것과 같은 형태(Map, List, String, Number, Boolean, null)로 변환
+     *  -> writeValueAsString과 같은 규칙을 따르되 문자열을 만들지 않습니다.
+     */
+    private Object toTree(Object obj) {
+        if (obj == null || obj instanceof String || obj instanceof Number || obj instanceof Boolean) {
+            return obj;
+        }
+        if (obj instanceof Map<?, ?> map) {
+            Map<String, Object> res = new HashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                res.put(String.valueOf(entry.getKey()), toTree(entry.getValue()));
+            }
+            return res;
+        }
+        if (obj instanceof Collection<?> collection) {
+            List<Object> res = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                res.add(toTree(item));
+            }
+            return res;
+        }
+        if (isTimeRelatedObject(obj)) {
+            return obj.toString();
+        }
+
+        // 일반 POJO
+        Map<String, Object> res = new HashMap<>();
+        try {
+            for (Field field : obj.getClass().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+                res.put(field.getName(), toTree(field.get(obj)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("POJO 객체 변환 실패: " + e.getMessage(), e);
+        }
+        return res;
+    }
+
+    public void setMappedReadThreshold(long mappedReadThreshold) {
+        this.mappedReadThreshold = mappedReadThreshold;
+    }
+
     private Object readObjectValue(Object object, Type type) {
         if (object == null) {
             return null;
@@ -77,9 +229,14 @@ public class ObjectMapper {
     }
 
     private Object handleClassType(Object object, Class<?> clazz) {
+        // 0. Object (타입 정보가 없는 경우) -> 파싱된 값(Map, List, String, Number ...)을 그대로 사용
+        if (clazz == Object.class) {
+            return object;
+        }
+
         // 1. 기본 래퍼 or String or Number or DateTime
         if (isWrapperOrString(clazz)) {
-            return convertValue(object, clazz);
+            return convertScalar(object, clazz);
         }
 
         // 2. Map (제네릭 정보가 전혀 없이 Map.class로만 넘어온 경우)
@@ -118,10 +275,10 @@ public class ObjectMapper {
     }
 
     /**
-     * Set<T> 처리
+     * Set<T> 처리 (JSON 배열은 List로 파싱되므로 모든 Collection을 허용)
      */
     private Object handleSet(Object object, Type elementType) {
-        if (!(object instanceof Set<?> sourceCollection)) {
+        if (!(object instanceof Collection<?> sourceCollection)) {
             throw new RuntimeException("JSON 구조가 Set이 아닌데, Set으로 역직렬화하려 함");
         }
 
@@ -169,10 +326,10 @@ public class ObjectMapper {
 
     /**
      * 제네릭 정보가 없는 Set.class 처리
-     *  -> 모든 요소를 Object.class로 역직렬화
+     *  -> 모든 요소를 Object.class로 역직렬화 (모든 Collection을 허용)
      */
     private Object handleSetNoGeneric(Object object) {
-        if (!(object instanceof Set<?> sourceCollection)) {
+        if (!(object instanceof Collection<?> sourceCollection)) {
             throw new RuntimeException("JSON 구조가 Set이 아닌데, Set으로 역직렬화하려 함");
         }
 
@@ -231,11 +388,93 @@ public class ObjectMapper {
         }
     }
 
+    /**
+     * 기존 값(current)에 JSON 값(source)을 반영
+     *  -> POJO, Map은 제자리에서 갱신하고, 컬렉션은 인스턴스를 재사용해 내용만 교체합니다.
+     *  -> 재사용할 수 없으면 새 값을 만듭니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Object mergeValue(Object current, Object source, Type type) {
+        if (current == null || source == null) {
+            return readObjectValue(source, type);
+        }
+
+        try {
+            if (source instanceof Map<?, ?> sourceMap) {
+                if (current instanceof Map<?, ?> currentMap) {
+                    Type valueType = type instanceof ParameterizedType pType ? pType.getActualTypeArguments()[1] : Object.class;
+                    Type keyType = type instanceof ParameterizedType pType ? pType.getActualTypeArguments()[0] : Object.class;
+                    mergeMap((Map<Object, Object>) currentMap, sourceMap, keyType, valueType);
+                    return current;
+                }
+                if (!isWrapperOrString(current.getClass()) && !(current instanceof Collection)) {
+                    mergePojo(current, (Map<String, Object>) sourceMap);
+                    return current;
+                }
+            }
+
+            if (source instanceof List<?> sourceList && current instanceof Collection<?> currentCollection) {
+                Type elementType = type instanceof ParameterizedType pType ? pType.getActualTypeArguments()[0] : Object.class;
+                Collection<Object> collection = (Collection<Object>) currentCollection;
+                collection.clear();
+                for (Object item : sourceList) {
+                    collection.add(readObjectValue(item, elementType));
+                }
+                return current;
+            }
+        } catch (UnsupportedOperationException e) {
+            // 불변 컬렉션 등 제자리 갱신이 불가능한 경우 새 값으로 대체
+        }
+
+        return readObjectValue(source, type);
+    }
+
+    /**
+     * 기존 POJO에 JSON에 존재하는 필드만 반영 (null은 필드를 비웁니다)
+     */
+    private void mergePojo(Object instance, Map<String, Object> map) {
+        try {
+            for (Field field : instance.getClass().getDeclaredFields()) {
+                if (!map.containsKey(field.getName()) || Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+
+                Object rawValue = map.get(field.getName());
+                if (rawValue == null && field.getType().isPrimitive()) continue;
+
+                Object currentValue = field.get(instance);
+                Object mergedValue = mergeValue(currentValue, rawValue, field.getGenericType());
+                if (mergedValue != currentValue) {
+                    field.set(instance, mergedValue);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("POJO 갱신 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기존 Map에 JSON 객체의 entry를 반영 (null 값은 entry를 제거합니다)
+     */
+    private void mergeMap(Map<Object, Object> target, Map<?, ?> source, Type keyType, Type valueType) {
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            Object key = readObjectValue(entry.getKey(), keyType);
+            if (entry.getValue() == null) {
+                target.remove(key);
+                continue;
+            }
+            Object currentValue = target.get(key);
+            Object mergedValue = mergeValue(currentValue, entry.getValue(), valueType);
+            if (mergedValue != currentValue) {
+                target.put(key, mergedValue);
+            }
+        }
+    }
+
     /**
      * 문자열, 숫자, 날짜/시간 등 기본 타입 변환
      */
     @SuppressWarnings("unchecked")
-    private <T> T convertValue(Object fieldValue, Class<T> type) {
+    private <T> T convertScalar(Object fieldValue, Class<T> type) {
         if (fieldValue == null) {
             return null;
         }
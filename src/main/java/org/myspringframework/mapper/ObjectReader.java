@@ -0,0 +1,26 @@
+package org.myspringframework.mapper;
+
+/**
+ * 기존 객체에 JSON을 덮어쓰는 reader입니다. {@link ObjectMapper#readerForUpdating(Object)}로 생성합니다.
+ * JSON에 존재하는 필드만 갱신하며, 값이 null인 필드는 비우고 Map에서는 entry를 제거합니다. (JSON merge-patch)
+ * 배열은 기존 컬렉션 인스턴스를 재사용하되 내용은 통째로 교체합니다.
+ */
+public class ObjectReader {
+    private final ObjectMapper objectMapper;
+    private final Object valueToUpdate;
+
+    ObjectReader(ObjectMapper objectMapper, Object valueToUpdate) {
+        this.objectMapper = objectMapper;
+        this.valueToUpdate = valueToUpdate;
+    }
+
+    /**
+     * JSON 문자열을 기존 객체에 반영
+     * @param json JSON 문자열
+     * @return 갱신된 (같은) 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(String json) {
+        return (T) objectMapper.updateValue(valueToUpdate, json);
+    }
+}
@@ -0,0 +1,151 @@
+package org.myspringframework.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * lock 없이 기록하는 log-linear 히스토그램입니다. (단위: ns)
+ * <p>
+ * 2의 거듭제곱 구간마다 16개의 같은 폭 bucket으로 나누므로, 값의 상대 오차는 1/16 이하입니다.
+ * 범위는 0 ~ 2^40ns(약 18분)이고, 넘는 값은 마지막 bucket에 기록합니다.
+ * <p>
+ * bucket 배열은 스레드별 stripe로 나눠서 기록 시 스레드 간 cache line 경합을 줄이고,
+ * {@link #snapshot()}에서 stripe를 합칩니다. stripe는 처음 기록할 때 만듭니다.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    private static final int SUM_INDEX = BUCKET_COUNT;
+
+    private static final int STRIPE_COUNT =
+            Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2);
+    private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+    /**
+     * @param nanos 기록할 값(ns). 음수는 0으로 기록합니다.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement(bucketIndex(value));
+        stripe.getAndAdd(SUM_INDEX, value);
+    }
+
+    private AtomicLongArray stripe() {
+        long id = Thread.currentThread().getId();
+        int index = (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & STRIPE_MASK;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT + 1));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    /**
+     * 값이 16보다 작으면 값 그대로, 아니면 (최상위 비트 아래 4비트, 지수)로 bucket을 정합니다.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long bucketLowerBound(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        return (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+    }
+
+    static long bucketUpperBound(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        return bucketLowerBound(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * stripe를 합친 현재 상태를 반환합니다. 기록과 동시에 호출하면 일부 기록이 빠질 수 있습니다.
+     */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKET_COUNT];
+        long sum = 0;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                buckets[b] += stripe.get(b);
+            }
+            sum += stripe.get(SUM_INDEX);
+        }
+        return new Snapshot(buckets, sum);
+    }
+
+    public static final class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+
+        private Snapshot(long[] buckets, long sum) {
+            this.buckets = buckets;
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            this.count = total;
+            this.sum = sum;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 기록된 값의 합(ns)
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * 다른 snapshot과 합친 결과를 반환합니다.
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] merged = buckets.clone();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += other.buckets[i];
+            }
+            return new Snapshot(merged, sum + other.sum);
+        }
+
+        /**
+         * quantile(0~1)에 해당하는 값(ns)을 반환합니다. bucket의 중간값을 사용합니다.
+         *
+         * @return 기록이 없으면 0
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return (bucketLowerBound(i) + bucketUpperBound(i)) / 2;
+                }
+            }
+            return MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.myspringframework.metrics;
+
+/**
+ * metrics endpoint에 추가로 내보낼 값을 Prometheus text 형식으로 씁니다.
+ */
+@FunctionalInterface
+public interface MetricsCollector {
+    void collect(StringBuilder out);
+}
@@ -0,0 +1,33 @@
+package org.myspringframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 처리 우선순위입니다. 컨트롤러 클래스에 선언하면 모든 핸들러에 적용되고, 메서드에 선언한 값이 클래스보다 우선합니다.
+ * 선언하지 않은 핸들러는 {@link #NORMAL}입니다.
+ * <p>
+ * 우선순위 스케줄링({@code server.priority.enabled})을 켜면 대기 중인 요청 중 값이 작은 쪽을 먼저 처리합니다.
+ * 오래 기다린 요청은 점점 앞으로 당겨지므로 낮은 우선순위의 요청도 처리가 밀리기만 하지는 않습니다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Priority {
+    int HIGHEST = 0;
+    int HIGH = 1;
+    int NORMAL = 2;
+    int LOW = 3;
+    int LOWEST = 4;
+
+    /**
+     * 우선순위 단계 수
+     */
+    int LEVELS = 5;
+
+    /**
+     * {@link #HIGHEST}(0) ~ {@link #LOWEST}(4). 작을수록 먼저 처리합니다.
+     */
+    int value();
+}
@@ -9,4 +9,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequestParam {
     String value() default "";
+
+    /**
+     * true이면 값이 없을 때 400으로 응답합니다. false이면 null을 전달합니다. (primitive는 항상 필수)
+     */
+    boolean required() default true;
 }
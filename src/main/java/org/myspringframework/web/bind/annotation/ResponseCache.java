@@ -0,0 +1,34 @@
+package org.myspringframework.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 핸들러의 직렬화된 응답(body, status, content type)을 메모리에 보관합니다.
+ * cache key는 핸들러와 path variable, {@code @RequestParam} 값입니다.
+ * <p>
+ * ttl이 지난 entry는 한 번 더 ttl 동안 stale 응답으로 사용되며, 그 사이 background에서 핸들러를 다시 호출해 갱신합니다.
+ * 요청 body나 HttpServletRequest 등 key에 포함되지 않는 값에 의존하는 핸들러에는 사용할 수 없습니다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ResponseCache {
+    /**
+     * entry가 최신으로 취급되는 시간(초)
+     */
+    long ttl() default 60;
+
+    int maxEntries() default 1000;
+
+    /**
+     * 보관할 응답 body의 최대 byte 합계
+     */
+    long maxBytes() default 16L << 20;
+
+    /**
+     * {@link org.myspringframework.web.servlet.ResponseCacheManager}에서 사용할 이름. 기본값은 "컨트롤러클래스.메서드"
+     */
+    String name() default "";
+}
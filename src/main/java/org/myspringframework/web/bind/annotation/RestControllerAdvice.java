@@ -1,5 +1,7 @@
 package org.myspringframework.web.bind.annotation;
 
+import org.myspringframework.annotations.Component;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -7,5 +9,6 @@ import java.lang.annotation.Target;
 
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
+@Component
 public @interface RestControllerAdvice {
 }
@@ -2,12 +2,22 @@ package org.myspringframework.web.http;
 
 public class HttpEntity<T> {
     private final T body;
+    private final HttpHeaders headers;
 
     public HttpEntity(T body) {
+        this(body, new HttpHeaders());
+    }
+
+    public HttpEntity(T body, HttpHeaders headers) {
         this.body = body;
+        this.headers = headers != null ? headers : new HttpHeaders();
     }
 
     public T getBody() {
         return body;
     }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
 }
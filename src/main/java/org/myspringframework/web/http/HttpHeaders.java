@@ -0,0 +1,83 @@
+package org.myspringframework.web.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HTTP header 모음입니다. header 이름은 대소문자를 구분하지 않습니다.
+ */
+public class HttpHeaders {
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String CACHE_CONTROL = "Cache-Control";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+    public static final String CONTENT_TYPE = "Content-Type";
+    public static final String ETAG = "ETag";
+    public static final String IF_NONE_MATCH = "If-None-Match";
+    public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String ALLOW = "Allow";
+    public static final String RETRY_AFTER = "Retry-After";
+    public static final String SERVER_TIMING = "Server-Timing";
+    public static final String VARY = "Vary";
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    public HttpHeaders() {
+    }
+
+    /**
+     * 기존 값을 지우고 값을 설정합니다.
+     */
+    public void set(String name, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        headers.put(name, values);
+    }
+
+    public void add(String name, String value) {
+        headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+    }
+
+    public String getFirst(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<String> get(String name) {
+        List<String> values = headers.get(name);
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    public Map<String, List<String>> asMap() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * ETag를 설정합니다. 따옴표가 없으면 strong ETag로 감쌉니다. (예: v42 -> "v42")
+     */
+    public void setETag(String etag) {
+        if (!etag.startsWith("\"") && !etag.startsWith("W/\"")) {
+            etag = "\"" + etag + "\"";
+        }
+        set(ETAG, etag);
+    }
+
+    public String getETag() {
+        return getFirst(ETAG);
+    }
+
+    public void setCacheControl(String cacheControl) {
+        set(CACHE_CONTROL, cacheControl);
+    }
+
+    @Override
+    public String toString() {
+        return headers.toString();
+    }
+}
@@ -13,6 +13,11 @@ public class ResponseEntity<T> extends HttpEntity<T> {
         this.status = status;
     }
 
+    public ResponseEntity(T body, HttpHeaders headers, HttpStatusCode status) {
+        super(body, headers);
+        this.status = status;
+    }
+
     public HttpStatusCode getStatus() {
         return status;
     }
@@ -21,6 +26,19 @@ public class ResponseEntity<T> extends HttpEntity<T> {
         return new ResponseEntity<>(body, HttpStatusCode.OK);
     }
 
+    /**
+     * ETag(버전)를 지정한 200 응답. 요청의 If-None-Match와 같으면 body를 직렬화하지 않고 304로 응답합니다.
+     */
+    public static <T> ResponseEntity<T> ok(T body, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        return new ResponseEntity<>(body, headers, HttpStatusCode.OK);
+    }
+
+    public static <T> ResponseEntity<T> notModified() {
+        return new ResponseEntity<>(null, HttpStatusCode.NOT_MODIFIED);
+    }
+
     public static <T> ResponseEntity<T> created(T body) {
         return new ResponseEntity<>(body, HttpStatusCode.CREATED);
     }
@@ -0,0 +1,9 @@
+package org.myspringframework.web.servlet;
+
+/**
+ * 핸들러 메서드의 매개변수 하나를 요청으로부터 만들어냅니다.
+ * 매개변수의 어노테이션, 이름, 타입은 시작 시점에 한 번만 분석하고, 요청마다 resolve만 호출합니다.
+ */
+public interface ArgumentResolver {
+    Object resolve(RequestContext context) throws Exception;
+}
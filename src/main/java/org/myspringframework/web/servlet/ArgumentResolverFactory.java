@@ -0,0 +1,70 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.web.bind.annotation.PathVariable;
+import org.myspringframework.web.bind.annotation.RequestBody;
+import org.myspringframework.web.bind.annotation.RequestParam;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * 핸들러 등록 시점에 메서드의 매개변수를 분석하여 {@link ArgumentResolver} 배열을 만듭니다.
+ */
+public class ArgumentResolverFactory {
+    private final ObjectMapper objectMapper;
+    private final ScalarConverters scalarConverters;
+
+    public ArgumentResolverFactory(ObjectMapper objectMapper) {
+        this(objectMapper, new ScalarConverters());
+    }
+
+    public ArgumentResolverFactory(ObjectMapper objectMapper, ScalarConverters scalarConverters) {
+        this.objectMapper = objectMapper;
+        this.scalarConverters = scalarConverters;
+    }
+
+    public ArgumentResolver[] create(Method method) {
+        Parameter[] parameters = method.getParameters();
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = create(method, parameters[i]);
+        }
+        return resolvers;
+    }
+
+    private ArgumentResolver create(Method method, Parameter parameter) {
+        if (parameter.isAnnotationPresent(PathVariable.class)) {
+            PathVariable pathVariable = parameter.getDeclaredAnnotation(PathVariable.class);
+            return new PathVariableArgumentResolver(pathVariable.value(), parameter.getParameterizedType(), scalarConverters);
+        }
+        if (parameter.isAnnotationPresent(RequestBody.class)) {
+            return new RequestBodyArgumentResolver(parameter.getParameterizedType(), objectMapper);
+        }
+        if (parameter.isAnnotationPresent(RequestParam.class)) {
+            RequestParam requestParam = parameter.getDeclaredAnnotation(RequestParam.class);
+            String name = requestParam.value().isEmpty() ? getParameterName(method, parameter) : requestParam.value();
+            return new RequestParamArgumentResolver(name, parameter.getParameterizedType(), requestParam.required(),
+                    scalarConverters);
+        }
+
+        // 어노테이션이 없는 매개변수
+        Class<?> type = parameter.getType();
+        if (ServletArgumentResolver.supports(type)) {
+            return new ServletArgumentResolver(type);
+        }
+        if (scalarConverters.supports(type)) {
+            return new RequestParamArgumentResolver(getParameterName(method, parameter), type, false, scalarConverters);
+        }
+        throw new IllegalStateException("Cannot resolve parameter '" + parameter.getName() + "' of " + method
+                + ": annotate it with @PathVariable, @RequestParam or @RequestBody");
+    }
+
+    private String getParameterName(Method method, Parameter parameter) {
+        if (!parameter.isNamePresent()) {
+            throw new IllegalStateException("Parameter name is not available for " + method
+                    + ": compile with -parameters or specify the name in the annotation");
+        }
+        return parameter.getName();
+    }
+}
@@ -0,0 +1,82 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.mapper.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 핸들러 호출 전에 모두 읽어 둔 요청 body입니다.
+ * 작은 body는 메모리에, memory threshold를 넘은 body는 임시 파일에 저장됩니다.
+ * 요청 처리가 끝나면 {@link #close()}로 임시 파일을 삭제합니다.
+ */
+public final class CachedRequestBody implements Closeable {
+    private final byte[] bytes;
+    private final Path file;
+    private final long size;
+
+    private CachedRequestBody(byte[] bytes, Path file, long size) {
+        this.bytes = bytes;
+        this.file = file;
+        this.size = size;
+    }
+
+    static CachedRequestBody inMemory(byte[] bytes, int length) {
+        return new CachedRequestBody(bytes, null, length);
+    }
+
+    static CachedRequestBody spilled(Path file, long size) {
+        return new CachedRequestBody(null, file, size);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * body가 임시 파일에 저장되었으면 true
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    public String asString() throws IOException {
+        return file == null
+                ? new String(bytes, 0, (int) size, StandardCharsets.UTF_8)
+                : Files.readString(file);
+    }
+
+    public InputStream openStream() throws IOException {
+        return file == null
+                ? new ByteArrayInputStream(bytes, 0, (int) size)
+                : Files.newInputStream(file);
+    }
+
+    /**
+     * body를 JSON으로 파싱합니다. 문자열로 변환하지 않고 바이트(임시 파일이면 매핑된 버퍼)를 그대로 파싱합니다.
+     */
+    public <T> T readValue(ObjectMapper objectMapper, Type type) throws IOException {
+        if (file == null) {
+            return objectMapper.readValue(ByteBuffer.wrap(bytes, 0, (int) size), type);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return objectMapper.readValue(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), type);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
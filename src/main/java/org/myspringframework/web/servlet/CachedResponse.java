@@ -0,0 +1,72 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpHeaders;
+
+/**
+ * 직렬화가 끝난 응답입니다. {@link ResponseWriter}가 그대로 쓸 수 있고, ETag와 압축 결과를 함께 보관합니다.
+ */
+public final class CachedResponse {
+    private final int status;
+    private final String contentType;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final String hash; // 압축 전 body의 xxHash64
+    private final long createdAt;
+
+    private volatile byte[] gzip;
+    private volatile byte[] deflate;
+
+    public CachedResponse(int status, String contentType, HttpHeaders headers, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+        this.hash = ResponseWriter.hash(body);
+        this.createdAt = System.nanoTime();
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 핸들러가 ETag를 지정했으면 그 값을, 아니면 인코딩별 자동 ETag를 반환합니다.
+     *
+     * @param encoding 응답 인코딩, 압축하지 않으면 null
+     */
+    public String getETag(String encoding) {
+        String etag = headers.getETag();
+        return etag != null ? etag : ResponseWriter.formatETag(hash, encoding);
+    }
+
+    /**
+     * 생성 후 지난 시간(ns)
+     */
+    public long age() {
+        return System.nanoTime() - createdAt;
+    }
+
+    byte[] getCompressed(String encoding) {
+        return ResponseWriter.GZIP.equals(encoding) ? gzip : deflate;
+    }
+
+    void setCompressed(String encoding, byte[] compressed) {
+        if (ResponseWriter.GZIP.equals(encoding)) {
+            gzip = compressed;
+        } else {
+            deflate = compressed;
+        }
+    }
+}
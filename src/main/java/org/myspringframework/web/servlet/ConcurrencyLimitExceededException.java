@@ -0,0 +1,29 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpHeaders;
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 핸들러의 동시 처리 수가 한도에 도달해 요청을 거절할 때 발생합니다. (503, Retry-After header를 담습니다)
+ */
+public class ConcurrencyLimitExceededException extends ResponseStatusException {
+    private final int limit;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(int limit, long retryAfterSeconds) {
+        super(HttpStatusCode.SERVICE_UNAVAILABLE, "Service Unavailable");
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,193 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.annotations.Autowired;
+import org.myspringframework.annotations.PostConstruct;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핸들러 패턴별 동시 처리 수를 제한합니다. 한도에 도달하면 기다리지 않고 바로 거절(503)합니다.
+ * <p>
+ * 한도는 응답 시간으로 조정합니다. (gradient 방식)
+ * <ul>
+ *     <li>장기 응답 시간(지수 이동 평균)과 이번 요청의 응답 시간의 비율로 한도를 줄이거나 늘립니다.</li>
+ *     <li>응답 시간이 장기 평균의 tolerance배를 넘으면 그 비율만큼 한도를 줄이고(최대 절반), 그렇지 않으면 sqrt(한도)만큼 늘립니다.</li>
+ *     <li>동시 처리 수가 한도의 절반보다 적으면 한도가 병목이 아니므로 조정하지 않습니다.</li>
+ * </ul>
+ * 허가와 한도 조정은 모두 CAS로 처리하므로 lock이 없습니다.
+ */
+public class ConcurrencyLimiter {
+    public static final int DEFAULT_INITIAL_LIMIT = 100;
+    public static final int DEFAULT_MIN_LIMIT = 10;
+    public static final int DEFAULT_MAX_LIMIT = 1000;
+    public static final double DEFAULT_TOLERANCE = 2.0;
+    public static final long DEFAULT_RETRY_AFTER = 1;
+
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_ALPHA = 0.01; // 약 100개 요청의 이동 평균
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    private boolean enabled;
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private long retryAfterSeconds = DEFAULT_RETRY_AFTER;
+
+    private final Map<HandlerPattern, RouteLimit> limits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        requestMetrics.addCollector(this::collect);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 응답 시간이 장기 평균의 몇 배를 넘으면 한도를 줄일지 설정합니다.
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * 거절 응답의 Retry-After(초)
+     */
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 요청을 허가합니다. 허가받은 요청은 응답이 끝난 뒤 {@link RouteLimit#release(long)}를 호출해야 합니다.
+     *
+     * @throws ConcurrencyLimitExceededException if the route is at its limit
+     */
+    RouteLimit acquire(HandlerPattern pattern) {
+        RouteLimit limit = limits.computeIfAbsent(pattern, RouteLimit::new);
+        if (!limit.tryAcquire()) {
+            limit.rejected.increment();
+            throw new ConcurrencyLimitExceededException(limit.getLimit(), retryAfterSeconds);
+        }
+        return limit;
+    }
+
+    private void collect(StringBuilder out) {
+        if (limits.isEmpty()) {
+            return;
+        }
+        out.append("# HELP http_server_concurrency_limit Current concurrency limit by handler pattern\n");
+        out.append("# TYPE http_server_concurrency_limit gauge\n");
+        limits.values().forEach(limit -> limit.write(out, "http_server_concurrency_limit", limit.getLimit()));
+        out.append("# HELP http_server_concurrency_in_flight Requests being processed by handler pattern\n");
+        out.append("# TYPE http_server_concurrency_in_flight gauge\n");
+        limits.values().forEach(limit -> limit.write(out, "http_server_concurrency_in_flight", limit.inFlight.get()));
+        out.append("# HELP http_server_requests_rejected_total Requests rejected by the concurrency limit\n");
+        out.append("# TYPE http_server_requests_rejected_total counter\n");
+        limits.values().forEach(limit -> limit.write(out, "http_server_requests_rejected_total", limit.rejected.sum()));
+    }
+
+    /**
+     * 핸들러 패턴 하나의 한도와 동시 처리 수
+     */
+    final class RouteLimit {
+        private final String labels;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong limitBits;     // double
+        private final AtomicLong longRttBits = new AtomicLong(Double.doubleToRawLongBits(0)); // double, ns
+        private final LongAdder rejected = new LongAdder();
+
+        private RouteLimit(HandlerPattern pattern) {
+            this.labels = "method=\"" + pattern.getHttpMethod().name()
+                    + "\",uri=\"" + RequestMetrics.escapeLabel(pattern.getPathTemplate()) + "\"";
+            this.limitBits = new AtomicLong(Double.doubleToRawLongBits(
+                    Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        }
+
+        int getLimit() {
+            return (int) Double.longBitsToDouble(limitBits.get());
+        }
+
+        private boolean tryAcquire() {
+            int limit = getLimit();
+            while (true) {
+                int current = inFlight.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 응답이 끝났을 때 호출합니다. 응답 시간으로 한도를 조정합니다.
+         *
+         * @param rttNanos 허가부터 응답 완료까지의 시간
+         */
+        void release(long rttNanos) {
+            int current = inFlight.getAndDecrement();
+            double rtt = Math.max(1, rttNanos);
+            double longRtt = updateLongRtt(rtt);
+
+            while (true) {
+                long bits = limitBits.get();
+                double limit = Double.longBitsToDouble(bits);
+                if (current < limit / 2) {
+                    return; // 한도가 병목이 아니면 조정하지 않음
+                }
+                double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+                double target = limit * gradient + (gradient == 1.0 ? Math.sqrt(limit) : 0);
+                double next = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+                if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 장기 응답 시간을 갱신합니다. 과부하가 계속되어 장기 평균이 이번 응답 시간의 2배를 넘으면 빠르게 낮춥니다.
+         */
+        private double updateLongRtt(double rtt) {
+            while (true) {
+                long bits = longRttBits.get();
+                double longRtt = Double.longBitsToDouble(bits);
+                double next = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) * LONG_RTT_ALPHA;
+                if (next / rtt > 2) {
+                    next *= 0.95;
+                }
+                if (longRttBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                    return next;
+                }
+            }
+        }
+
+        private void write(StringBuilder out, String name, long value) {
+            out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package org.myspringframework.web.servlet;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.myspringframework.annotations.Autowired;
+import org.myspringframework.web.bind.annotation.RequestMethod;
 
 import java.io.IOException;
+import java.util.Set;
 
 public class DispatcherServlet extends HttpServlet {
     @Autowired
@@ -14,21 +18,153 @@ public class DispatcherServlet extends HttpServlet {
     @Autowired
     private HandlerAdapter handlerAdapter;
 
+    @Autowired
+    private ResponseWriter responseWriter;
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private PriorityExecutor priorityExecutor;
+
+    private boolean serverTimingEnabled;
+
+    /**
+     * 응답에 처리 단계별 소요 시간을 담은 Server-Timing header를 붙일지 설정합니다. (디버깅용, 기본 false)
+     */
+    public void setServerTimingEnabled(boolean serverTimingEnabled) {
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
+
+    @Override
+    public void init() {
+        handlerAdapter.setServletContext(getServletContext());
+    }
+
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        long start = System.nanoTime();
         String requestURI = req.getRequestURI();
         String contextPath = req.getContextPath();
         String path = requestURI.substring(contextPath.length());
         String httpMethod = req.getMethod();
 
-        HandlerMethod handler = handlerMapping.getHandler(httpMethod, path);
+        if (requestMetrics.isEnabled() && "GET".equals(httpMethod) && path.equals(requestMetrics.getPath())) {
+            responseWriter.write(req, resp, HttpServletResponse.SC_OK, RequestMetrics.CONTENT_TYPE, requestMetrics.scrape());
+            return;
+        }
+
+        RequestTimings timings = RequestTimings.start(req, serverTimingEnabled, start);
+        if (timings != null) {
+            timings.begin(RequestTimings.Phase.ROUTE);
+        }
+        HandlerMatch match = handlerMapping.lookupHandler(httpMethod, path);
+        HandlerPattern pattern = match == null ? null : match.getHandler().getPattern();
+        if (timings != null) {
+            if (pattern != null) {
+                timings.setRoute(pattern);
+            }
+            timings.end(RequestTimings.Phase.ROUTE);
+        }
 
-        if (handler == null) {
-            resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            resp.getWriter().write("404 Not Found");
+        ConcurrencyLimiter.RouteLimit limit = null;
+        boolean scheduled = false;
+        try {
+            if (match == null) {
+                Set<RequestMethod> allowedMethods = handlerMapping.getAllowedMethods(path);
+                handlerAdapter.handleException(req, resp, allowedMethods.isEmpty()
+                        ? new NoHandlerFoundException(httpMethod, path)
+                        : new MethodNotAllowedException(httpMethod, allowedMethods));
+            } else if (!writeCached(req, resp, match)) {
+                // 한도에 도달했으면 대기열에 넣지 않고 바로 503
+                if (concurrencyLimiter.isEnabled()) {
+                    limit = concurrencyLimiter.acquire(pattern);
+                }
+                // body가 있는 핸들러는 body를 다 읽은 뒤 HandlerAdapter가 대기열에 넣음
+                if (priorityExecutor.isEnabled() && !match.getHandler().hasRequestBody()) {
+                    req.startAsync(req, resp); // timeout과 완료는 HandlerAdapter.schedule이 맡음
+                    scheduled = true;
+                } else {
+                    handlerAdapter.handle(req, resp, match);
+                }
+            }
+        } catch (ResponseStatusException e) {
+            // 동시 처리 한도 초과(503), cache key를 만들다 실패한 잘못된 요청 값(400)
+            handlerAdapter.handleException(req, resp, e);
+        } finally {
+            onComplete(req, resp, pattern, start, timings, limit);
+        }
+
+        // 완료 listener를 등록한 뒤에 넘겨야 worker가 먼저 응답을 끝내도 기록이 빠지지 않음
+        if (scheduled) {
+            handlerAdapter.schedule(req, resp, match);
+        }
+    }
+
+    /**
+     * {@code @ResponseCache} 핸들러는 cache에 있으면 핸들러를 호출하지 않고 바로 응답합니다.
+     *
+     * @return cache로 응답했으면 true
+     * @throws RequestBindingException if a path variable or query parameter of the key is malformed
+     */
+    private boolean writeCached(HttpServletRequest req, HttpServletResponse resp, HandlerMatch match) throws IOException {
+        HandlerResponseCache responseCache = match.getHandler().getResponseCache();
+        if (responseCache == null) {
+            return false;
+        }
+        CachedResponse cached = responseCache.get(responseCache.keyFor(new RequestContext(req, resp, match)));
+        if (cached == null) {
+            return false;
+        }
+        responseWriter.write(req, resp, cached);
+        return true;
+    }
+
+    /**
+     * metrics, 전체 요청 시간, 동시 처리 한도 반환을 동기 요청은 바로, async 요청은 응답이 끝났을 때 처리합니다.
+     */
+    private void onComplete(HttpServletRequest req, HttpServletResponse resp, HandlerPattern pattern, long start,
+                            RequestTimings timings, ConcurrencyLimiter.RouteLimit limit) {
+        if (!requestMetrics.isEnabled() && timings == null && limit == null) {
             return;
         }
+        if (!req.isAsyncStarted()) {
+            record(req, resp, pattern, start, timings, limit);
+            return;
+        }
+        req.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                record(req, resp, pattern, start, timings, limit);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
 
-        handlerAdapter.handle(req, resp, handler);
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private void record(HttpServletRequest req, HttpServletResponse resp, HandlerPattern pattern, long start,
+                        RequestTimings timings, ConcurrencyLimiter.RouteLimit limit) {
+        if (limit != null) {
+            limit.release(System.nanoTime() - start);
+        }
+        if (requestMetrics.isEnabled()) {
+            requestMetrics.record(req, resp, pattern, start);
+        }
+        if (timings != null) {
+            timings.end(RequestTimings.Phase.REQUEST, resp.getStatus());
+        }
     }
 }
@@ -1,16 +1,51 @@
 package org.myspringframework.web.servlet;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 import java.lang.reflect.Method;
 
+/**
+ * {@code @RestControllerAdvice} 빈의 {@code @ExceptionHandler} 메서드입니다.
+ * 매개변수로 처리할 예외, {@link HttpServletRequest}, {@link HttpServletResponse}를 받을 수 있습니다.
+ */
 public class ExceptionHandlerMethod {
+    private static final int EXCEPTION = 0;
+    private static final int REQUEST = 1;
+    private static final int RESPONSE = 2;
+
     private final Object controller;
     private final Method method;
     private final Class<? extends Throwable>[] exceptionTypes;
+    private final HandlerInvoker invoker;
+    private final Class<?>[] parameterTypes;
+    private final int[] parameterKinds;
 
     public ExceptionHandlerMethod(Object controller, Method method, Class<? extends Throwable>[] exceptionTypes) {
+        this(controller, method, exceptionTypes, new HandlerInvokerFactory().create(controller, method));
+    }
+
+    public ExceptionHandlerMethod(Object controller, Method method, Class<? extends Throwable>[] exceptionTypes,
+                                  HandlerInvoker invoker) {
         this.controller = controller;
         this.method = method;
         this.exceptionTypes = exceptionTypes;
+        this.invoker = invoker;
+
+        this.parameterTypes = method.getParameterTypes();
+        this.parameterKinds = new int[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (Throwable.class.isAssignableFrom(parameterTypes[i])) {
+                parameterKinds[i] = EXCEPTION;
+            } else if (parameterTypes[i] == HttpServletRequest.class) {
+                parameterKinds[i] = REQUEST;
+            } else if (parameterTypes[i] == HttpServletResponse.class) {
+                parameterKinds[i] = RESPONSE;
+            } else {
+                throw new IllegalStateException("Unsupported @ExceptionHandler parameter type "
+                        + parameterTypes[i].getName() + " in " + method);
+            }
+        }
     }
 
     public Object getController() {
@@ -26,11 +61,43 @@ public class ExceptionHandlerMethod {
     }
 
     public boolean supports(Throwable exception) {
-        for (Class<? extends Throwable> exType : exceptionTypes) {
-            if (exType.isAssignableFrom(exception.getClass())) {
-                return true;
+        return distance(exception.getClass()) >= 0;
+    }
+
+    /**
+     * 예외 클래스에서 처리 가능한 가장 가까운 선언 타입까지의 상속 단계 수를 반환합니다.
+     *
+     * @return 처리할 수 없으면 -1
+     */
+    public int distance(Class<?> exceptionClass) {
+        int nearest = -1;
+        for (Class<? extends Throwable> exceptionType : exceptionTypes) {
+            if (!exceptionType.isAssignableFrom(exceptionClass)) {
+                continue;
+            }
+            int distance = 0;
+            for (Class<?> type = exceptionClass; type != exceptionType; type = type.getSuperclass()) {
+                distance++;
+            }
+            if (nearest < 0 || distance < nearest) {
+                nearest = distance;
             }
         }
-        return false;
+        return nearest;
+    }
+
+    /**
+     * 예외 처리 메서드를 호출합니다. 메서드가 던진 예외는 그대로 전달됩니다.
+     */
+    public Object invoke(Throwable exception, HttpServletRequest req, HttpServletResponse resp) throws Exception {
+        Object[] args = new Object[parameterKinds.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = switch (parameterKinds[i]) {
+                case EXCEPTION -> parameterTypes[i].isInstance(exception) ? exception : null;
+                case REQUEST -> req;
+                default -> resp;
+            };
+        }
+        return invoker.invoke(args);
     }
 }
@@ -1,110 +1,559 @@
 package org.myspringframework.web.servlet;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.myspringframework.annotations.Autowired;
 import org.myspringframework.mapper.ObjectMapper;
-import org.myspringframework.web.bind.annotation.PathVariable;
-import org.myspringframework.web.bind.annotation.RequestBody;
-import org.myspringframework.web.bind.annotation.RequestParam;
 import org.myspringframework.web.http.ErrorResponse;
+import org.myspringframework.web.http.HttpHeaders;
 import org.myspringframework.web.http.ResponseEntity;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class HandlerAdapter {
+    public static final long DEFAULT_ASYNC_TIMEOUT = 30_000;
+    public static final long DEFAULT_MAX_REQUEST_BODY_SIZE = 10L << 20;      // 10MB
+    public static final int DEFAULT_REQUEST_BODY_MEMORY_THRESHOLD = 256 << 10; // 256KB
+
     @Autowired
     private ObjectMapper objectMapper;
 
-    public void handle(HttpServletRequest req, HttpServletResponse resp, HandlerMethod handler) throws IOException {
-        String requestURI = req.getRequestURI();
-        String contextPath = req.getContextPath();
-        String path = requestURI.substring(contextPath.length());
-        String queryString = req.getQueryString();
-        String requestBody = getRequestBody(req);
+    @Autowired
+    private ResponseWriter responseWriter;
+
+    @Autowired
+    private HandlerMapping handlerMapping;
+
+    @Autowired
+    private PriorityExecutor priorityExecutor;
+
+    private long asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
+    private long maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
+    private int requestBodyMemoryThreshold = DEFAULT_REQUEST_BODY_MEMORY_THRESHOLD;
+    private ServletContext servletContext;
+
+    /**
+     * 컨테이너 스레드 밖(우선순위 worker, async 콜백)에서 로그를 남길 때 사용합니다.
+     * 그런 스레드에서는 req.getServletContext()가 null입니다.
+     */
+    public void setServletContext(ServletContext servletContext) {
+        this.servletContext = servletContext;
+    }
+
+    /**
+     * 비동기 처리(body 읽기, CompletionStage 대기)의 최대 시간(ms)을 설정합니다.
+     * body를 읽는 중이면 408, 그 밖(우선순위 대기열, 핸들러, CompletionStage 대기)에는 503으로 응답합니다. 0 이하이면 제한하지 않습니다.
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * 요청 body의 최대 크기(byte)를 설정합니다. 넘으면 413으로 응답합니다.
+     * body를 매핑해서 파싱하므로 {@link Integer#MAX_VALUE}를 넘을 수 없습니다.
+     */
+    public void setMaxRequestBodySize(long maxRequestBodySize) {
+        this.maxRequestBodySize = Math.min(maxRequestBodySize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 요청 body를 메모리에 둘 최대 크기(byte)를 설정합니다. 넘으면 임시 파일에 저장합니다.
+     */
+    public void setRequestBodyMemoryThreshold(int requestBodyMemoryThreshold) {
+        this.requestBodyMemoryThreshold = requestBodyMemoryThreshold;
+    }
+
+    /**
+     * 핸들러를 호출하고 응답을 씁니다. 요청이 이미 async 모드이면 그 AsyncContext를 이어서 사용합니다.
+     *
+     * @return body 읽기나 CompletionStage 대기로 응답이 나중에 끝나면 true. 이때 AsyncContext는 이 클래스가 완료합니다.
+     */
+    public boolean handle(HttpServletRequest req, HttpServletResponse resp, HandlerMatch match) throws IOException {
+        HandlerMethod handler = match.getHandler();
+
+        if (handler.hasRequestBody()) {
+            return readRequestBody(req, resp, match);
+        }
+
+        try {
+            RequestContext context = new RequestContext(req, resp, match);
+            if (handler.getResponseCache() != null) {
+                writeResult(req, resp, invokeCacheable(context));
+                return false;
+            }
+            Object result = invokeHandler(context);
+
+            if (context.isNotModified()) {
+                responseWriter.writeNotModified(resp);
+                return false;
+            }
+            if (result instanceof CompletionStage) {
+                new AsyncRequest(req, resp).await((CompletionStage<?>) result);
+                return true;
+            }
 
-        Map<String, String> pathVariables = handler.getPathVariables(path);
-        Map<String, String> queryParams = parseQueryString(queryString);
+            writeResult(req, resp, result);
+        } catch (Exception e) {
+            handleException(req, resp, e);
+        }
+        return false;
+    }
 
-        Method method = handler.getTargetMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = new Object[parameters.length];
+    /**
+     * body가 없는 핸들러 호출을 {@link PriorityExecutor}의 핸들러 우선순위 대기열에 넣고 컨테이너 스레드를 반환합니다.
+     * 요청은 이미 async 모드여야 하며, AsyncContext는 이 클래스가 완료합니다.
+     * 대기열이 가득 차면 503, 대기열과 핸들러에서 async timeout이 지나도 503으로 응답합니다.
+     */
+    public void schedule(HttpServletRequest req, HttpServletResponse resp, HandlerMatch match) {
+        new AsyncRequest(req, resp).schedule(new RequestContext(req, resp, match));
+    }
 
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
+    /**
+     * body를 async I/O로 모두 읽은 뒤, body를 읽기를 마친 컨테이너 스레드에서 핸들러를 호출합니다.
+     * 우선순위 스케줄링을 켰으면 핸들러 호출을 {@link PriorityExecutor}의 핸들러 우선순위 대기열에 넣고,
+     * 대기열이 가득 차면 503으로 응답합니다. body를 읽는 동안에는 worker를 차지하지 않습니다.
+     * Content-Length가 최대 크기를 넘으면 body를 읽지 않고 바로 413으로 응답합니다.
+     */
+    private boolean readRequestBody(HttpServletRequest req, HttpServletResponse resp, HandlerMatch match) throws IOException {
+        long contentLength = req.getContentLengthLong();
+        if (contentLength > maxRequestBodySize) {
+            errorResponse(req, resp, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Payload Too Large");
+            return false;
+        }
+
+        String contentEncoding = req.getHeader("Content-Encoding");
+        if (contentEncoding == null || contentEncoding.equalsIgnoreCase("identity")) {
+            contentEncoding = null;
+        } else if (contentEncoding.equalsIgnoreCase("gzip") || contentEncoding.equalsIgnoreCase("x-gzip")) {
+            contentEncoding = "gzip";
+        } else if (contentEncoding.equalsIgnoreCase("deflate")) {
+            contentEncoding = "deflate";
+        } else {
+            errorResponse(req, resp, HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, "Unsupported Media Type");
+            return false;
+        }
+
+        RequestTimings timings = RequestTimings.of(req);
+        if (timings != null) {
+            timings.begin(RequestTimings.Phase.READ);
+        }
+        AsyncRequest asyncRequest = new AsyncRequest(req, resp);
+        asyncRequest.reader = new RequestBodyReader(
+                req.getInputStream(), maxRequestBodySize, requestBodyMemoryThreshold, contentLength, contentEncoding,
+                new RequestBodyReader.Callback() {
+                    @Override
+                    public void onBody(CachedRequestBody body) {
+                        asyncRequest.body = body;
+                        if (timings != null) {
+                            timings.setRequestBytes(body.size());
+                            timings.end(RequestTimings.Phase.READ);
+                        }
+                        if (asyncRequest.responded.get()) {
+                            return; // 읽는 중에 timeout
+                        }
+                        RequestContext context = new RequestContext(req, resp, match, body);
+                        if (priorityExecutor.isEnabled()) {
+                            asyncRequest.schedule(context);
+                        } else {
+                            asyncRequest.dispatch(context);
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Throwable failure) {
+                        if (failure instanceof PayloadTooLargeException) {
+                            asyncRequest.fail(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Payload Too Large", null);
+                        } else {
+                            asyncRequest.fail(HttpServletResponse.SC_BAD_REQUEST, "Bad Request", null); // 잘못된 요청은 로그를 남기지 않음
+                        }
+                    }
+                });
+        req.getInputStream().setReadListener(asyncRequest.reader);
+        return true;
+    }
+
+    /**
+     * {@code @ResponseCache} 핸들러를 호출하고, 직렬화한 200 응답을 cache에 넣습니다.
+     * cache 조회는 {@link DispatcherServlet}이 이 메서드보다 먼저 합니다.
+     *
+     * @return cache에 넣은 {@link CachedResponse}, 200이 아니면 핸들러가 반환한 ResponseEntity
+     */
+    private Object invokeCacheable(RequestContext context) throws Exception {
+        HandlerMethod handler = context.getMatch().getHandler();
+        Object[] args = resolveArguments(context);
+        RequestTimings timings = RequestTimings.of(context.getRequest());
+        Object result = invoke(handler, args, timings);
+
+        if (result instanceof ResponseEntity && ((ResponseEntity<?>) result).getStatus().value() != HttpServletResponse.SC_OK) {
+            return result;
+        }
+
+        CachedResponse cached = toCachedResponse(result, timings);
+        handler.getResponseCache().put(handler.getResponseCache().keyFor(context), cached,
+                () -> toCachedResponse(handler.invoke(args), null));
+        return cached;
+    }
+
+    private CachedResponse toCachedResponse(Object result, RequestTimings timings) {
+        int status = HttpServletResponse.SC_OK;
+        HttpHeaders headers = new HttpHeaders();
+        Object body = result;
+        if (result instanceof ResponseEntity) {
+            ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
+            status = responseEntity.getStatus().value();
+            headers = responseEntity.getHeaders();
+            body = responseEntity.getBody();
+        }
+        if (timings != null) {
+            timings.begin(RequestTimings.Phase.SERIALIZE);
+        }
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        if (timings != null) {
+            timings.end(RequestTimings.Phase.SERIALIZE);
+        }
+        return new CachedResponse(status, "application/json; charset=UTF-8", headers, bytes);
+    }
+
+    private Object invokeHandler(RequestContext context) throws Exception {
+        Object[] args = resolveArguments(context);
+        return invoke(context.getMatch().getHandler(), args, RequestTimings.of(context.getRequest()));
+    }
+
+    private Object invoke(HandlerMethod handler, Object[] args, RequestTimings timings) throws Exception {
+        if (timings == null) {
+            return handler.invoke(args);
+        }
+        timings.begin(RequestTimings.Phase.HANDLER);
+        try {
+            return handler.invoke(args);
+        } finally {
+            timings.end(RequestTimings.Phase.HANDLER);
+        }
+    }
+
+    private Object[] resolveArguments(RequestContext context) {
+        HandlerMethod handler = context.getMatch().getHandler();
+        ArgumentResolver[] resolvers = handler.getArgumentResolvers();
+        Object[] args = new Object[resolvers.length];
+        RequestTimings timings = RequestTimings.of(context.getRequest());
+        if (timings != null) {
+            timings.begin(RequestTimings.Phase.BIND);
+        }
+
+        for (int i = 0; i < resolvers.length; i++) {
+            boolean parse = timings != null && resolvers[i] instanceof RequestBodyArgumentResolver;
+            if (parse) {
+                timings.begin(RequestTimings.Phase.PARSE);
+            }
             try {
-                if (parameter.isAnnotationPresent(PathVariable.class)) {
-                    PathVariable pathVariable = parameter.getDeclaredAnnotation(PathVariable.class);
-                    String parameterName = pathVariable.value();
-                    Object value = objectMapper.readValue(pathVariables.get(parameterName), parameter.getType());
-                    args[i] = value;
-                } else if (parameter.isAnnotationPresent(RequestBody.class)) {
-                    args[i] = objectMapper.readValue(requestBody, parameter.getType());
-                } else if (parameter.isAnnotationPresent(RequestParam.class)) {
-                    RequestParam requestParam = parameter.getDeclaredAnnotation(RequestParam.class);
-                    String parameterName = requestParam.value();
-                    Object value = objectMapper.readValue(queryParams.get(parameterName), parameter.getType());
-                    args[i] = value;
-                }
+                args[i] = resolvers[i].resolve(context);
+            } catch (ResponseStatusException e) {
+                throw e;
             } catch (Exception e) {
-                throw new RuntimeException("Failed to bind request parameter to method parameter", e);
+                throw new RequestBindingException(handler.getTargetMethod().getParameters()[i].getName(), e);
+            } finally {
+                if (parse) {
+                    timings.end(RequestTimings.Phase.PARSE);
+                }
             }
         }
 
-        try {
-            Object result = method.invoke(handler.getController(), args);
+        if (timings != null) {
+            timings.end(RequestTimings.Phase.BIND);
+        }
+        return args;
+    }
 
-            if (result instanceof ResponseEntity) {
-                ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
-                response(resp, responseEntity.getStatus().value(), objectMapper.writeValueAsString(responseEntity.getBody()));
+    private void writeResult(HttpServletRequest req, HttpServletResponse resp, Object result) throws IOException {
+        if (result instanceof CachedResponse) {
+            responseWriter.write(req, resp, (CachedResponse) result);
+            return;
+        }
+        if (result instanceof ResponseEntity) {
+            ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
+            HttpHeaders headers = responseEntity.getHeaders();
+            for (Map.Entry<String, List<String>> header : headers.asMap().entrySet()) {
+                for (String value : header.getValue()) {
+                    resp.addHeader(header.getKey(), value);
+                }
+            }
+
+            int status = responseEntity.getStatus().value();
+            if (status == HttpServletResponse.SC_NOT_MODIFIED) {
+                responseWriter.writeNotModified(resp);
+                return;
+            }
+            // 핸들러가 ETag를 지정했으면 body를 직렬화하기 전에 비교
+            if (status == HttpServletResponse.SC_OK && responseWriter.checkNotModified(req, resp, headers.getETag())) {
                 return;
             }
+            response(req, resp, status, serialize(req, responseEntity.getBody()));
+            return;
+        }
 
-            response(resp, HttpServletResponse.SC_OK, objectMapper.writeValueAsString(result));
-        } catch (Exception e) {
-            ErrorResponse response = new ErrorResponse(LocalDateTime.now(), 500, "Internal Server Error", requestURI);
-            response(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, objectMapper.writeValueAsString(response));
-            throw new RuntimeException(e);
+        response(req, resp, HttpServletResponse.SC_OK, serialize(req, result));
+    }
+
+    private String serialize(HttpServletRequest req, Object value) {
+        RequestTimings timings = RequestTimings.of(req);
+        if (timings == null) {
+            return objectMapper.writeValueAsString(value);
         }
+        timings.begin(RequestTimings.Phase.SERIALIZE);
+        String json = objectMapper.writeValueAsString(value);
+        timings.end(RequestTimings.Phase.SERIALIZE);
+        return json;
     }
 
-    private void response(HttpServletResponse resp, int status, String message) throws IOException {
-        resp.setStatus(status);
-        resp.setContentType("application/json; charset=UTF-8");
-        resp.setCharacterEncoding("UTF-8");
-        resp.getWriter().write(message);
+    /**
+     * 예외를 처리하는 {@code @ExceptionHandler}가 있으면 그 결과로 응답합니다.
+     * 없으면 {@link ResponseStatusException}은 해당 status로, 그 외의 예외는 로그를 남기고 500으로 응답합니다.
+     * 처리한 예외는 다시 던지지 않습니다.
+     */
+    public void handleException(HttpServletRequest req, HttpServletResponse resp, Throwable exception) throws IOException {
+        handleException(req, resp, exception, servletContext(req));
     }
 
-    private String getRequestBody(HttpServletRequest request) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        BufferedReader reader = request.getReader();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            sb.append(line);
+    private void handleException(HttpServletRequest req, HttpServletResponse resp, Throwable exception,
+                                 ServletContext servletContext) throws IOException {
+        if (resp.isCommitted()) {
+            servletContext.log("Request failed after the response was committed: " + req.getRequestURI(), exception);
+            return;
+        }
+
+        if (exception instanceof ResponseStatusException statusException) {
+            for (Map.Entry<String, List<String>> header : statusException.getHeaders().asMap().entrySet()) {
+                for (String value : header.getValue()) {
+                    resp.addHeader(header.getKey(), value);
+                }
+            }
+        }
+
+        ExceptionHandlerMethod exceptionHandler = handlerMapping.getExceptionHandler(exception.getClass());
+        if (exceptionHandler != null) {
+            try {
+                writeResult(req, resp, exceptionHandler.invoke(exception, req, resp));
+                return;
+            } catch (Exception e) {
+                e.addSuppressed(exception);
+                exception = e;
+            }
+        }
+
+        if (exception instanceof ResponseStatusException statusException) {
+            errorResponse(req, resp, statusException.getStatus().value(), statusException.getMessage());
+            return;
         }
-        return sb.toString();
+
+        servletContext.log("Request failed: " + req.getRequestURI(), exception);
+        errorResponse(req, resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal Server Error");
     }
 
-    private Map<String, String> parseQueryString(String queryString) {
-        Map<String, String> queryParams = new ConcurrentHashMap<>();
-        if (queryString == null || queryString.isEmpty()) {
-            return queryParams;
+    private ServletContext servletContext(HttpServletRequest req) {
+        ServletContext context = req.getServletContext();
+        return context != null ? context : servletContext;
+    }
+
+    private void errorResponse(HttpServletRequest req, HttpServletResponse resp, int status, String error) throws IOException {
+        ErrorResponse response = new ErrorResponse(LocalDateTime.now(), status, error, req.getRequestURI());
+        response(req, resp, status, objectMapper.writeValueAsString(response));
+    }
+
+    private void response(HttpServletRequest req, HttpServletResponse resp, int status, String message) throws IOException {
+        responseWriter.write(req, resp, status, "application/json; charset=UTF-8", message);
+    }
+
+    /**
+     * async 모드로 처리되는 요청 하나의 상태입니다.
+     * body 읽기, CompletionStage 완료, timeout 중 먼저 응답을 결정한 쪽만 응답을 작성합니다.
+     */
+    private final class AsyncRequest implements AsyncListener {
+        private final HttpServletRequest req;
+        private final HttpServletResponse resp;
+        private final AsyncContext asyncContext;
+        private final ServletContext servletContext; // async 콜백 스레드에서는 req.getServletContext()가 null
+        private final AtomicBoolean responded = new AtomicBoolean();
+
+        private volatile CompletionStage<?> pending;
+        private volatile CachedRequestBody body;
+        private RequestBodyReader reader;
+
+        private AsyncRequest(HttpServletRequest req, HttpServletResponse resp) {
+            this.req = req;
+            this.resp = resp;
+            this.servletContext = servletContext(req);
+            this.asyncContext = req.isAsyncStarted() ? req.getAsyncContext() : req.startAsync(req, resp);
+            asyncContext.setTimeout(Math.max(asyncTimeout, 0));
+            asyncContext.addListener(this);
+        }
+
+        /**
+         * 핸들러 호출을 핸들러 우선순위 대기열에 넣습니다. 대기열이 가득 차면 503으로 응답합니다.
+         */
+        private void schedule(RequestContext context) {
+            int priority = context.getMatch().getHandler().getPriority();
+            try {
+                priorityExecutor.execute(priority, () -> {
+                    if (!responded.get()) { // 대기열에서 기다리는 중에 timeout
+                        dispatch(context);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                error(new PriorityQueueFullException(priority, priorityExecutor.getRetryAfterSeconds()));
+            }
+        }
+
+        /**
+         * 핸들러를 호출하고, 먼저 timeout되지 않았으면 결과를 씁니다.
+         */
+        private void dispatch(RequestContext context) {
+            Object result;
+            try {
+                result = context.getMatch().getHandler().getResponseCache() != null
+                        ? invokeCacheable(context)
+                        : invokeHandler(context);
+            } catch (Exception e) {
+                error(e);
+                return;
+            }
+
+            if (context.isNotModified()) {
+                notModified();
+            } else if (result instanceof CompletionStage) {
+                await((CompletionStage<?>) result);
+            } else {
+                complete(result, null);
+            }
         }
-        String[] pairs = queryString.split("&");
-        for (String pair : pairs) {
-            String[] kv = pair.split("=", 2);
-            if (kv.length == 2) {
-                String key = kv[0];
-                String value = kv[1];
-                queryParams.put(key, value);
+
+        /**
+         * 컨테이너 스레드를 반환하고, CompletionStage가 완료되면 완료한 스레드에서 응답을 작성합니다.
+         */
+        private void await(CompletionStage<?> stage) {
+            pending = stage;
+            stage.whenComplete(this::complete);
+        }
+
+        private void notModified() {
+            if (responded.compareAndSet(false, true)) {
+                responseWriter.writeNotModified(resp);
+                asyncContext.complete();
+            }
+        }
+
+        private void complete(Object result, Throwable exception) {
+            if (exception != null) {
+                Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                        ? exception.getCause()
+                        : exception;
+                error(cause);
+                return;
+            }
+            if (!responded.compareAndSet(false, true)) {
+                return;
             }
+            try {
+                writeResult(req, resp, result);
+            } catch (Exception e) {
+                servletContext.log("Failed to write async response: " + req.getRequestURI(), e);
+            } finally {
+                asyncContext.complete();
+            }
+        }
+
+        /**
+         * 핸들러나 CompletionStage가 실패하면 {@code @ExceptionHandler}로 처리합니다.
+         */
+        private void error(Throwable exception) {
+            if (!responded.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                handleException(req, resp, exception, servletContext);
+            } catch (Exception e) {
+                servletContext.log("Failed to write error response: " + req.getRequestURI(), e);
+            } finally {
+                asyncContext.complete();
+            }
+        }
+
+        private void fail(int status, String error, Throwable cause) {
+            if (responded.compareAndSet(false, true)) {
+                writeError(status, error, cause);
+            }
+        }
+
+        private void writeError(int status, String error, Throwable cause) {
+            if (cause != null) {
+                servletContext.log("Request failed: " + req.getRequestURI(), cause);
+            }
+            try {
+                errorResponse(req, resp, status, error);
+            } catch (Exception e) {
+                servletContext.log("Failed to write error response: " + req.getRequestURI(), e);
+            } finally {
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (!responded.compareAndSet(false, true)) {
+                return;
+            }
+            CompletionStage<?> stage = pending;
+            if (reader != null && body == null) {
+                writeError(HttpServletResponse.SC_REQUEST_TIMEOUT, "Request Timeout", null);
+                return;
+            }
+            if (stage instanceof CompletableFuture) {
+                try {
+                    ((CompletableFuture<?>) stage).cancel(true);
+                } catch (UnsupportedOperationException e) {
+                    // minimalCompletionStage()는 CompletableFuture이지만 취소할 수 없음
+                }
+            }
+            // 우선순위 대기열, 핸들러, CompletionStage 대기에서 시간 초과
+            writeError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service Unavailable", null);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (responded.compareAndSet(false, true)) {
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (reader != null) {
+                reader.discard();
+            }
+            CachedRequestBody cached = body;
+            if (cached != null) {
+                try {
+                    cached.close();
+                } catch (IOException e) {
+                    servletContext.log("Failed to delete request body file", e);
+                }
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
-        return queryParams;
     }
 }
@@ -0,0 +1,9 @@
+package org.myspringframework.web.servlet;
+
+/**
+ * 컨트롤러 메서드를 호출하는 타입이 지정된 invoker입니다. {@link HandlerInvokerFactory}가 핸들러마다 생성합니다.
+ * 핸들러가 던진 예외는 감싸지 않고 그대로 전달됩니다.
+ */
+public interface HandlerInvoker {
+    Object invoke(Object[] args) throws Exception;
+}
@@ -0,0 +1,98 @@
+package org.myspringframework.web.servlet;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 핸들러 메서드마다 {@link HandlerInvoker}를 생성합니다.
+ * <p>
+ * 기본적으로 ByteBuddy로 컨트롤러 메서드를 직접 호출(invokevirtual)하는 클래스를 만들어
+ * JIT이 컨트롤러 호출을 inline 할 수 있게 합니다. 접근할 수 없는 클래스라면 MethodHandle로 대체합니다.
+ * <p>
+ * 생성한 클래스는 컨트롤러와 같은 패키지, 같은 ClassLoader에 정의하므로 핸들러마다 ClassLoader를 만들지 않습니다.
+ */
+public class HandlerInvokerFactory {
+    private static final String TARGET_FIELD = "target";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    public HandlerInvoker create(Object controller, Method method) {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers()) && Modifier.isPublic(method.getModifiers())) {
+            try {
+                return generate(controller, method);
+            } catch (Exception | LinkageError e) {
+                // 동작은 같지만 호출이 inline 되지 않으므로 알 수 있게 남김
+                System.err.println("Failed to generate invoker for " + method + ", falling back to MethodHandle: " + e);
+            }
+        }
+        return new MethodHandleInvoker(controller, method);
+    }
+
+    private HandlerInvoker generate(Object controller, Method method) throws ReflectiveOperationException {
+        Class<?> declaringClass = method.getDeclaringClass();
+        int parameterCount = method.getParameterCount();
+
+        MethodCall call = parameterCount == 0
+                ? MethodCall.invoke(method).onField(TARGET_FIELD)
+                : MethodCall.invoke(method).onField(TARGET_FIELD).withArgumentArrayElements(0, parameterCount);
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        Class<? extends HandlerInvoker> invokerClass = new ByteBuddy()
+                .subclass(HandlerInvoker.class)
+                .name(declaringClass.getName() + "$Invoker$" + method.getName() + "$" + SEQUENCE.incrementAndGet())
+                .defineField(TARGET_FIELD, declaringClass, Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(declaringClass)
+                .intercept(MethodCall.invoke(Object.class.getConstructor())
+                        .andThen(FieldAccessor.ofField(TARGET_FIELD).setsArgumentAt(0)))
+                .method(ElementMatchers.named("invoke"))
+                .intercept(call.withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+                .make()
+                .load(declaringClass.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(lookup))
+                .getLoaded();
+
+        return invokerClass.getConstructor(declaringClass).newInstance(controller);
+    }
+
+    /**
+     * 생성한 클래스로 호출할 수 없는 경우 사용하는 MethodHandle 기반 invoker
+     */
+    private static final class MethodHandleInvoker implements HandlerInvoker {
+        private final MethodHandle handle;
+
+        private MethodHandleInvoker(Object controller, Method method) {
+            try {
+                method.setAccessible(true);
+                this.handle = MethodHandles.lookup().unreflect(method)
+                        .bindTo(controller)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to create invoker for " + method, e);
+            }
+        }
+
+        @Override
+        public Object invoke(Object[] args) throws Exception {
+            try {
+                return (Object) handle.invokeExact(args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+}
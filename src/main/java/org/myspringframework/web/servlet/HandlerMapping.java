@@ -1,28 +1,50 @@
 package org.myspringframework.web.servlet;
 
 import org.myspringframework.annotations.Controller;
+import org.myspringframework.annotations.PostConstruct;
 import org.myspringframework.context.ApplicationContext;
+import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.web.bind.annotation.ExceptionHandler;
+import org.myspringframework.web.bind.annotation.Priority;
 import org.myspringframework.web.bind.annotation.RequestMapping;
 import org.myspringframework.web.bind.annotation.RequestMethod;
+import org.myspringframework.web.bind.annotation.ResponseCache;
+import org.myspringframework.web.bind.annotation.RestControllerAdvice;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class HandlerMapping {
+    private final ApplicationContext context;
     private Map<HandlerPattern, HandlerMethod> handlerMap;
-    private List<ExceptionHandlerMethod> exceptionHandlerMethods;
+    private Map<RequestMethod, RouteTree> routes;
+    private final List<ExceptionHandlerMethod> exceptionHandlerMethods = new ArrayList<>();
+    private final ClassValue<Optional<ExceptionHandlerMethod>> exceptionHandlerCache = new ClassValue<>() {
+        @Override
+        protected Optional<ExceptionHandlerMethod> computeValue(Class<?> exceptionClass) {
+            return Optional.ofNullable(findExceptionHandler(exceptionClass));
+        }
+    };
+    private ArgumentResolverFactory argumentResolverFactory;
+    private ResponseCacheManager responseCacheManager;
+    private final HandlerInvokerFactory handlerInvokerFactory = new HandlerInvokerFactory();
 
     public HandlerMapping(ApplicationContext context) {
+        this.context = context;
         handlerMap = new ConcurrentHashMap<>();
-        init(context);
+        routes = new EnumMap<>(RequestMethod.class);
     }
 
 //    private void init(ApplicationContext context) {
@@ -86,11 +108,19 @@ public class HandlerMapping {
 //        }
 //    }
 
-    private void init(ApplicationContext context) {
+    @PostConstruct
+    public void init() {
+        argumentResolverFactory = new ArgumentResolverFactory(context.getBean(ObjectMapper.class));
+        responseCacheManager = context.getBean(ResponseCacheManager.class);
+
         for (Map.Entry<Class<?>, Object> entry : context.getBeanRegistry().entrySet()) {
             // class type
             Class<?> clazz = entry.getKey();
 
+            if (clazz.isAnnotationPresent(RestControllerAdvice.class)) {
+                registerExceptionHandlers(clazz, context.getBean(clazz));
+            }
+
             if (isController(clazz)) {
                 Object controller = context.getBean(clazz);
 
@@ -100,29 +130,19 @@ public class HandlerMapping {
                 for (Method targetMethod : clazz.getMethods()) {
                     if (targetMethod.isAnnotationPresent(RequestMapping.class)) {
                         RequestMapping requestMapping = targetMethod.getDeclaredAnnotation(RequestMapping.class);
-                        Pattern regex = createRegex(baseUrl + requestMapping.value());
-                        List<String> variableNames = extractVariableNames(baseUrl + requestMapping.value());
-
-                        HandlerPattern pattern = new HandlerPattern(requestMapping.method(), regex);
-                        HandlerMethod handler = new HandlerMethod(controller, targetMethod, regex, variableNames);
-                        handlerMap.put(pattern, handler);
+                        registerHandler(requestMapping.method(), baseUrl + requestMapping.value(), controller, clazz, targetMethod);
                     } else {
                         for (Annotation annotation : targetMethod.getDeclaredAnnotations()) {
                             if (annotation.annotationType().isAnnotationPresent(RequestMapping.class)) {
                                 String value = "";
                                 try {
-                                    value = annotation.getClass().getMethod("value").invoke(annotation).toString();
+                                    value = annotation.annotationType().getMethod("value").invoke(annotation).toString();
                                 } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
                                     throw new RuntimeException("Failed to get value from annotation", e);
                                 }
 
                                 RequestMapping requestMapping = annotation.annotationType().getAnnotation(RequestMapping.class);
-                                Pattern regex = createRegex(baseUrl + value);
-                                List<String> variableNames = extractVariableNames(baseUrl + value);
-
-                                HandlerPattern pattern = new HandlerPattern(requestMapping.method(), regex);
-                                HandlerMethod handler = new HandlerMethod(controller, targetMethod, regex, variableNames);
-                                handlerMap.put(pattern, handler);
+                                registerHandler(requestMapping.method(), baseUrl + value, controller, clazz, targetMethod);
                             }
                         }
                     }
@@ -131,6 +151,121 @@ public class HandlerMapping {
         }
     }
 
+    private void registerHandler(RequestMethod httpMethod, String template, Object controller, Class<?> controllerClass,
+                                 Method targetMethod) {
+        if (template.isEmpty()) {
+            template = "/";
+        }
+
+        HandlerPattern pattern = new HandlerPattern(httpMethod, template);
+        ArgumentResolver[] argumentResolvers = argumentResolverFactory.create(targetMethod);
+        for (ArgumentResolver resolver : argumentResolvers) {
+            if (resolver instanceof PathVariableArgumentResolver pathVariable
+                    && !template.contains("{" + pathVariable.getName() + "}")) {
+                throw new IllegalStateException("No path variable '" + pathVariable.getName() + "' in " + template
+                        + " for " + targetMethod);
+            }
+        }
+        HandlerResponseCache responseCache = createResponseCache(httpMethod, targetMethod, argumentResolvers);
+        HandlerMethod handler = new HandlerMethod(controller, targetMethod, pattern,
+                argumentResolvers, handlerInvokerFactory.create(controller, targetMethod), responseCache,
+                resolvePriority(controllerClass, targetMethod));
+        routes.computeIfAbsent(httpMethod, m -> new RouteTree()).insert(template, handler);
+        handlerMap.put(pattern, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerExceptionHandlers(Class<?> adviceClass, Object advice) {
+        for (Method method : adviceClass.getMethods()) {
+            ExceptionHandler exceptionHandler = method.getAnnotation(ExceptionHandler.class);
+            if (exceptionHandler == null) {
+                continue;
+            }
+            Class<? extends Throwable>[] exceptionTypes = exceptionHandler.value();
+            if (exceptionTypes.length == 0) {
+                // 선언이 없으면 예외 타입 매개변수로 결정
+                exceptionTypes = Arrays.stream(method.getParameterTypes())
+                        .filter(Throwable.class::isAssignableFrom)
+                        .toArray(Class[]::new);
+            }
+            if (exceptionTypes.length == 0) {
+                throw new IllegalStateException("No exception type declared for @ExceptionHandler " + method);
+            }
+            exceptionHandlerMethods.add(new ExceptionHandlerMethod(advice, method, exceptionTypes,
+                    handlerInvokerFactory.create(advice, method)));
+        }
+    }
+
+    /**
+     * 예외 클래스를 처리할 {@code @ExceptionHandler}를 찾습니다. 선언한 예외 타입이 가장 가까운 상위 클래스인 메서드가 우선합니다.
+     * 결과는 예외 클래스별로 캐시합니다.
+     *
+     * @return 처리할 메서드가 없으면 null
+     */
+    public ExceptionHandlerMethod getExceptionHandler(Class<? extends Throwable> exceptionClass) {
+        return exceptionHandlerCache.get(exceptionClass).orElse(null);
+    }
+
+    private ExceptionHandlerMethod findExceptionHandler(Class<?> exceptionClass) {
+        ExceptionHandlerMethod nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (ExceptionHandlerMethod method : exceptionHandlerMethods) {
+            int distance = method.distance(exceptionClass);
+            if (distance >= 0 && distance < nearestDistance) {
+                nearest = method;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * 메서드의 {@code @Priority}, 없으면 컨트롤러 클래스의 {@code @Priority}, 둘 다 없으면 {@link Priority#NORMAL}
+     */
+    private int resolvePriority(Class<?> controllerClass, Method targetMethod) {
+        Priority annotation = targetMethod.getAnnotation(Priority.class);
+        if (annotation == null) {
+            annotation = controllerClass.getAnnotation(Priority.class);
+        }
+        if (annotation == null) {
+            return Priority.NORMAL;
+        }
+        if (annotation.value() < Priority.HIGHEST || annotation.value() > Priority.LOWEST) {
+            throw new IllegalStateException("@Priority must be between " + Priority.HIGHEST + " and " + Priority.LOWEST
+                    + ": " + targetMethod);
+        }
+        return annotation.value();
+    }
+
+    /**
+     * {@code @ResponseCache}가 선언된 GET 핸들러의 응답 cache를 만들어 {@link ResponseCacheManager}에 등록합니다.
+     * stale entry는 처음 요청의 인자로 핸들러를 다시 호출해 갱신하므로, 매개변수는 path variable과 query parameter만 허용합니다.
+     */
+    private HandlerResponseCache createResponseCache(RequestMethod httpMethod, Method targetMethod,
+                                                     ArgumentResolver[] argumentResolvers) {
+        ResponseCache annotation = targetMethod.getAnnotation(ResponseCache.class);
+        if (annotation == null) {
+            return null;
+        }
+        if (httpMethod != RequestMethod.GET) {
+            throw new IllegalStateException("@ResponseCache is only supported on GET handlers: " + targetMethod);
+        }
+        if (CompletionStage.class.isAssignableFrom(targetMethod.getReturnType())) {
+            throw new IllegalStateException("@ResponseCache is not supported on async handlers: " + targetMethod);
+        }
+        if (annotation.ttl() <= 0 || annotation.maxEntries() <= 0 || annotation.maxBytes() <= 0) {
+            throw new IllegalStateException("@ResponseCache ttl, maxEntries and maxBytes must be positive: " + targetMethod);
+        }
+
+        String name = annotation.name().isEmpty()
+                ? targetMethod.getDeclaringClass().getSimpleName() + "." + targetMethod.getName()
+                : annotation.name();
+        HandlerResponseCache cache = new HandlerResponseCache(name, annotation, argumentResolvers,
+                responseCacheManager.getRefreshExecutor());
+        responseCacheManager.register(cache);
+        return cache;
+    }
+
     private String getBaseUrl(Class<?> targetClass) {
         String baseUrl = "";
         if (targetClass.isAnnotationPresent(RequestMapping.class)) {
@@ -149,20 +284,6 @@ public class HandlerMapping {
         return null;
     }
 
-    private Pattern createRegex(String template) {
-        String regexStr = template.replaceAll("\\{([^/}]+)\\}", "([^/]+)");
-        return Pattern.compile("^" + regexStr + "$");
-    }
-
-    private List<String> extractVariableNames(String template) {
-        List<String> variableNames = new ArrayList<>();
-        Matcher matcher = Pattern.compile("\\{([^/}]+)\\}").matcher(template);
-        while (matcher.find()) {
-            variableNames.add(matcher.group(1));
-        }
-        return variableNames;
-    }
-
     private boolean isController(Class<?> clazz) {
         if (clazz.isAnnotationPresent(Controller.class)) {
             return true;
@@ -177,18 +298,52 @@ public class HandlerMapping {
         return false;
     }
 
-    public HandlerMethod getHandler(RequestMethod httpMethod, String path) {
-        for (Map.Entry<HandlerPattern, HandlerMethod> entry : handlerMap.entrySet()) {
-            HandlerPattern pattern = entry.getKey();
-            if (pattern.matches(httpMethod, path)) {
-                return entry.getValue();
+    /**
+     * 요청 메서드와 경로에 맞는 핸들러를 찾고, path variable 값을 함께 반환합니다.
+     * 정적 경로가 변수 경로보다 우선합니다.
+     */
+    public HandlerMatch lookupHandler(RequestMethod httpMethod, String path) {
+        RouteTree tree = routes.get(httpMethod);
+        if (tree == null) {
+            return null;
+        }
+        return tree.match(path);
+    }
+
+    public HandlerMatch lookupHandler(String httpMethod, String path) {
+        RequestMethod requestMethod;
+        try {
+            requestMethod = RequestMethod.valueOf(httpMethod.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return lookupHandler(requestMethod, path);
+    }
+
+    /**
+     * 경로에 맞는 핸들러가 있는 요청 메서드 (405 응답의 Allow header)
+     */
+    public Set<RequestMethod> getAllowedMethods(String path) {
+        Set<RequestMethod> allowed = EnumSet.noneOf(RequestMethod.class);
+        for (Map.Entry<RequestMethod, RouteTree> route : routes.entrySet()) {
+            if (route.getValue().match(path) != null) {
+                allowed.add(route.getKey());
             }
         }
+        return allowed;
+    }
 
-        return null;
+    public HandlerMethod getHandler(RequestMethod httpMethod, String path) {
+        HandlerMatch match = lookupHandler(httpMethod, path);
+        return match == null ? null : match.getHandler();
     }
 
     public HandlerMethod getHandler(String httpMethod, String path) {
-        return getHandler(RequestMethod.valueOf(httpMethod.toUpperCase()), path);
+        HandlerMatch match = lookupHandler(httpMethod, path);
+        return match == null ? null : match.getHandler();
+    }
+
+    public Map<HandlerPattern, HandlerMethod> getHandlerMethods() {
+        return Collections.unmodifiableMap(handlerMap);
     }
 }
@@ -0,0 +1,54 @@
+package org.myspringframework.web.servlet;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 경로에 일치한 핸들러와, 탐색 중에 추출한 path variable 값입니다.
+ * 값은 인코딩된 원본 그대로 보관하고, 조회할 때 percent-decoding합니다. ('+'는 공백이 아닌 '+'로 취급)
+ */
+public final class HandlerMatch {
+    static final String[] NO_VALUES = new String[0];
+
+    private final HandlerMethod handler;
+    private final String[] variableNames;
+    private final String[] variableValues;
+
+    HandlerMatch(HandlerMethod handler, String[] variableNames, String[] variableValues) {
+        this.handler = handler;
+        this.variableNames = variableNames;
+        this.variableValues = variableValues;
+    }
+
+    public HandlerMethod getHandler() {
+        return handler;
+    }
+
+    /**
+     * @return 해석한 path variable 값, 없으면 null
+     * @throws IllegalArgumentException if the value has an invalid percent-encoding
+     */
+    public String getPathVariable(String name) {
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i].equals(name)) {
+                return UriDecoder.decode(variableValues[i], false);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, String> getPathVariables() {
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < variableNames.length; i++) {
+            variables.put(variableNames[i], UriDecoder.decode(variableValues[i], false));
+        }
+        return variables;
+    }
+
+    @Override
+    public String toString() {
+        return "HandlerMatch[" +
+                "handler=" + handler + ", " +
+                "pathVariables=" + getPathVariables() + ']';
+    }
+}
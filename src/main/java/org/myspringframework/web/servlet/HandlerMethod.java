@@ -1,24 +1,45 @@
 package org.myspringframework.web.servlet;
 
+import org.myspringframework.web.bind.annotation.Priority;
+
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class HandlerMethod {
     private final Object controller;
     private final Method targetMethod;
-    private final Pattern regex;
-    private final List<String> variableNames;
+    private final HandlerPattern pattern;
+    private final ArgumentResolver[] argumentResolvers;
+    private final HandlerInvoker invoker;
+    private final boolean hasRequestBody;
+    private final HandlerResponseCache responseCache;
+    private final int priority;
+
+    public HandlerMethod(
+            Object controller,
+            Method method,
+            HandlerPattern pattern,
+            ArgumentResolver[] argumentResolvers,
+            HandlerInvoker invoker) {
+        this(controller, method, pattern, argumentResolvers, invoker, null, Priority.NORMAL);
+    }
 
     public HandlerMethod(
             Object controller,
             Method method,
-            Pattern regex, List<String> variableNames) {
+            HandlerPattern pattern,
+            ArgumentResolver[] argumentResolvers,
+            HandlerInvoker invoker,
+            HandlerResponseCache responseCache,
+            int priority) {
         this.controller = controller;
         this.targetMethod = method;
-        this.regex = regex;
-        this.variableNames = variableNames;
+        this.pattern = pattern;
+        this.argumentResolvers = argumentResolvers;
+        this.invoker = invoker;
+        this.hasRequestBody = Arrays.stream(argumentResolvers).anyMatch(RequestBodyArgumentResolver.class::isInstance);
+        this.responseCache = responseCache;
+        this.priority = priority;
     }
 
     public Object getController() {
@@ -29,15 +50,43 @@ public final class HandlerMethod {
         return targetMethod;
     }
 
-    public Map<String, String> getPathVariables(String url) {
-        Matcher matcher = regex.matcher(url);
-        Map<String, String> variables = new HashMap<>();
-        if (matcher.matches()) {
-            for (int i = 0; i < variableNames.size(); i++) {
-                variables.put(variableNames.get(i), matcher.group(i + 1));
-            }
-        }
-        return variables;
+    public HandlerPattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 매개변수 순서대로 정렬된 resolver 배열 (시작 시점에 생성)
+     */
+    public ArgumentResolver[] getArgumentResolvers() {
+        return argumentResolvers;
+    }
+
+    /**
+     * {@code @RequestBody} 매개변수가 있으면 true. 이 경우 body를 모두 읽은 뒤에 핸들러를 호출합니다.
+     */
+    public boolean hasRequestBody() {
+        return hasRequestBody;
+    }
+
+    /**
+     * {@code @ResponseCache}가 선언된 핸들러의 응답 cache. 없으면 null
+     */
+    public HandlerResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * {@link Priority} 단계. 선언이 없으면 {@link Priority#NORMAL}
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * 컨트롤러 메서드를 호출합니다. 핸들러가 던진 예외는 그대로 전달됩니다.
+     */
+    public Object invoke(Object[] args) throws Exception {
+        return invoker.invoke(args);
     }
 
     @Override
@@ -3,30 +3,25 @@ package org.myspringframework.web.servlet;
 import org.myspringframework.web.bind.annotation.RequestMethod;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public final class HandlerPattern {
     private final RequestMethod httpMethod;
-    private final Pattern regex;
+    private final String pathTemplate;
 
     public HandlerPattern(
             RequestMethod httpMethod,
-            Pattern regex
+            String pathTemplate
     ) {
         this.httpMethod = httpMethod;
-        this.regex = regex;
+        this.pathTemplate = pathTemplate;
     }
 
     public RequestMethod getHttpMethod() {
         return httpMethod;
     }
 
-    public Pattern getRegex() {
-        return regex;
-    }
-
-    public boolean matches(RequestMethod httpMethod, String path) {
-        return this.httpMethod == httpMethod && this.regex.matcher(path).matches();
+    public String getPathTemplate() {
+        return pathTemplate;
     }
 
     @Override
@@ -35,19 +30,19 @@ public final class HandlerPattern {
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (HandlerPattern) obj;
         return Objects.equals(this.httpMethod, that.httpMethod) &&
-                Objects.equals(this.regex, that.regex);
+                Objects.equals(this.pathTemplate, that.pathTemplate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(httpMethod, regex);
+        return Objects.hash(httpMethod, pathTemplate);
     }
 
     @Override
     public String toString() {
         return "HandlerPattern[" +
                 "httpMethod=" + httpMethod + ", " +
-                "regex=" + regex + ']';
+                "pathTemplate=" + pathTemplate + ']';
     }
 
 }
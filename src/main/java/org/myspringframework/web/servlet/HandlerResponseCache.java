@@ -0,0 +1,192 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.cache.TinyLfuCache;
+import org.myspringframework.web.bind.annotation.ResponseCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @ResponseCache} 핸들러 하나의 응답 cache입니다.
+ * key는 핸들러의 path variable, query parameter 값을 매개변수 순서대로 나열한 것입니다.
+ * 용량은 {@link TinyLfuCache}로 entry 수와 응답 byte 크기를 함께 제한합니다.
+ */
+public final class HandlerResponseCache {
+    private static final int ENTRY_OVERHEAD = 128; // entry, key 객체의 대략적인 크기
+
+    private final String name;
+    private final long ttlNanos;
+    private final String[] pathVariableNames;
+    private final RequestParamArgumentResolver[] queryParams;
+    private final TinyLfuCache<Key, Entry> cache;
+    private final Executor refreshExecutor;
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+    HandlerResponseCache(String name, ResponseCache annotation, ArgumentResolver[] resolvers, Executor refreshExecutor) {
+        this.name = name;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(annotation.ttl());
+        this.refreshExecutor = refreshExecutor;
+        this.cache = new TinyLfuCache<>(annotation.maxBytes(), annotation.maxEntries(),
+                (key, entry) -> entry.response.getBody().length + key.weight() + ENTRY_OVERHEAD);
+
+        List<String> pathVariables = new ArrayList<>();
+        List<RequestParamArgumentResolver> queryParams = new ArrayList<>();
+        for (ArgumentResolver resolver : resolvers) {
+            if (resolver instanceof PathVariableArgumentResolver pathVariable) {
+                pathVariables.add(pathVariable.getName());
+            } else if (resolver instanceof RequestParamArgumentResolver requestParam) {
+                queryParams.add(requestParam);
+            } else {
+                throw new IllegalStateException("@ResponseCache handler " + name
+                        + " can only have @PathVariable and @RequestParam parameters");
+            }
+        }
+        this.pathVariableNames = pathVariables.toArray(new String[0]);
+        this.queryParams = queryParams.toArray(new RequestParamArgumentResolver[0]);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @throws RequestBindingException if a path variable or query parameter has a malformed percent-encoding
+     */
+    Key keyFor(RequestContext context) {
+        String[] values = new String[pathVariableNames.length + queryParams.length];
+        int i = 0;
+        for (String pathVariable : pathVariableNames) {
+            try {
+                values[i++] = context.getMatch().getPathVariable(pathVariable);
+            } catch (IllegalArgumentException e) {
+                throw new RequestBindingException(pathVariable, e);
+            }
+        }
+        // 여러 값은 evict(List.of(...))와 같은 key가 되도록 List의 문자열 표현을 사용
+        for (RequestParamArgumentResolver queryParam : queryParams) {
+            try {
+                values[i++] = queryParam.isMultiValued()
+                        ? String.valueOf(context.getQueryParameters().getAll(queryParam.getName()))
+                        : context.getQueryParam(queryParam.getName());
+            } catch (IllegalArgumentException e) {
+                throw new RequestBindingException(queryParam.getName(), e);
+            }
+        }
+        return new Key(values);
+    }
+
+    /**
+     * 최신 또는 갱신 중인 stale 응답을 반환합니다.
+     * ttl이 지난 entry는 한 번 더 ttl 동안 반환하면서 background에서 갱신하고, 그보다 오래된 entry는 제거합니다.
+     *
+     * @return cache에 없으면 null
+     */
+    CachedResponse get(Key key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = entry.response.age();
+        if (age < ttlNanos) {
+            return entry.response;
+        }
+        if (age < 2 * ttlNanos) {
+            refresh(key, entry);
+            return entry.response;
+        }
+        cache.invalidate(key);
+        return null;
+    }
+
+    /**
+     * @param loader stale entry를 갱신할 때 호출합니다. (같은 인자로 핸들러를 다시 호출)
+     */
+    void put(Key key, CachedResponse response, Callable<CachedResponse> loader) {
+        cache.put(key, new Entry(response, loader));
+    }
+
+    private void refresh(Key key, Entry entry) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CachedResponse response = entry.loader.call();
+                    if (response.getStatus() == 200) {
+                        put(key, response, entry.loader);
+                    } else {
+                        cache.invalidate(key);
+                    }
+                } catch (Exception e) {
+                    // 갱신에 실패하면 stale entry를 그대로 두고, 만료되면 다음 요청이 핸들러를 직접 호출합니다.
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * path variable, query parameter 값(매개변수 순서)에 해당하는 entry를 제거합니다.
+     */
+    public void evict(Object... values) {
+        String[] key = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            key[i] = values[i] == null ? null : String.valueOf(values[i]);
+        }
+        cache.invalidate(new Key(key));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long weightedSize() {
+        return cache.weightedSize();
+    }
+
+    static final class Key {
+        private final String[] values;
+        private final int hash;
+
+        private Key(String[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        private int weight() {
+            int weight = 0;
+            for (String value : values) {
+                weight += value == null ? 0 : value.length() * 2;
+            }
+            return weight;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key that && hash == that.hash && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record Entry(CachedResponse response, Callable<CachedResponse> loader) {
+    }
+}
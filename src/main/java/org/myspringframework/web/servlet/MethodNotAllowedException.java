@@ -0,0 +1,37 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.bind.annotation.RequestMethod;
+import org.myspringframework.web.http.HttpHeaders;
+import org.myspringframework.web.http.HttpStatusCode;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 경로에 맞는 핸들러는 있지만 요청 메서드를 지원하지 않을 때 발생합니다. (405, Allow header에 지원하는 메서드를 담습니다)
+ */
+public class MethodNotAllowedException extends ResponseStatusException {
+    private final String httpMethod;
+    private final Set<RequestMethod> allowedMethods;
+
+    public MethodNotAllowedException(String httpMethod, Set<RequestMethod> allowedMethods) {
+        super(HttpStatusCode.METHOD_NOT_ALLOWED, "Method Not Allowed");
+        this.httpMethod = httpMethod;
+        this.allowedMethods = allowedMethods;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public Set<RequestMethod> getAllowedMethods() {
+        return allowedMethods;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ALLOW, allowedMethods.stream().map(Enum::name).collect(Collectors.joining(", ")));
+        return headers;
+    }
+}
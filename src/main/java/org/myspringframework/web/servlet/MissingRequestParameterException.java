@@ -0,0 +1,19 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 필수 query parameter가 요청에 없을 때 발생합니다. (400)
+ */
+public class MissingRequestParameterException extends ResponseStatusException {
+    private final String parameterName;
+
+    public MissingRequestParameterException(String parameterName) {
+        super(HttpStatusCode.BAD_REQUEST, "Required parameter '" + parameterName + "' is missing");
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+}
@@ -0,0 +1,25 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 요청 경로에 맞는 핸들러가 없을 때 발생합니다. (404)
+ */
+public class NoHandlerFoundException extends ResponseStatusException {
+    private final String httpMethod;
+    private final String path;
+
+    public NoHandlerFoundException(String httpMethod, String path) {
+        super(HttpStatusCode.NOT_FOUND, "Not Found");
+        this.httpMethod = httpMethod;
+        this.path = path;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,31 @@
+package org.myspringframework.web.servlet;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@code @PathVariable} 매개변수
+ */
+public final class PathVariableArgumentResolver implements ArgumentResolver {
+    private final String name;
+    private final ScalarConverter<?> converter;
+
+    /**
+     * @throws IllegalStateException if the type has no {@link ScalarConverter}
+     */
+    public PathVariableArgumentResolver(String name, Type targetType, ScalarConverters converters) {
+        this.name = name;
+        this.converter = targetType instanceof Class<?> clazz ? converters.find(clazz) : null;
+        if (converter == null) {
+            throw new IllegalStateException("Unsupported type of @PathVariable '" + name + "': " + targetType);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object resolve(RequestContext context) {
+        return converter.convert(context.getMatch().getPathVariable(name));
+    }
+}
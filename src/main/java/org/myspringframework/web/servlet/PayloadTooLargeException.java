@@ -0,0 +1,12 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 요청 body가 설정된 최대 크기를 넘었을 때 발생합니다. (413)
+ */
+public class PayloadTooLargeException extends ResponseStatusException {
+    public PayloadTooLargeException(long maxSize) {
+        super(HttpStatusCode.PAYLOAD_TOO_LARGE, "Request body exceeds the maximum size of " + maxSize + " bytes");
+    }
+}
@@ -0,0 +1,316 @@
+package org.myspringframework.web.servlet;
+
+import org.eclipse.jetty.util.VirtualThreads;
+import org.myspringframework.annotations.Autowired;
+import org.myspringframework.annotations.PostConstruct;
+import org.myspringframework.annotations.PreDestroy;
+import org.myspringframework.web.bind.annotation.Priority;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Priority} 단계별 대기열에서 작업을 꺼내 정해진 수의 worker로 실행합니다.
+ * <ul>
+ *     <li>각 작업의 기한은 "대기열에 들어간 시각 + 단계 x aging 시간"이며, worker는 기한이 가장 이른 작업을 꺼냅니다.
+ *     같은 시각에 들어온 작업은 단계 순서로 처리되고, aging 시간만큼 기다린 작업은 한 단계 위의 새 작업과 같은 취급을 받으므로
+ *     높은 우선순위 요청이 계속 들어와도 낮은 우선순위 요청이 무한정 밀리지 않습니다.</li>
+ *     <li>단계마다 대기열 크기를 제한하고, 가득 차면 {@link RejectedExecutionException}으로 바로 거절합니다.</li>
+ *     <li>worker는 플랫폼 스레드 또는 (JDK가 지원하면) virtual thread에서 실행합니다.
+ *     virtual thread는 블로킹 핸들러가 많아도 worker 수를 크게 잡을 수 있습니다.</li>
+ * </ul>
+ * 대기열은 lock 없는 queue이고, 단계마다 맨 앞 작업만 비교하므로 꺼내는 비용은 단계 수에 비례합니다.
+ */
+public class PriorityExecutor {
+    public static final int DEFAULT_WORKERS = 200;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final long DEFAULT_AGING_MILLIS = 100;
+    public static final long DEFAULT_RETRY_AFTER = 1;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 30_000;
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    private boolean enabled;
+    private int workers = DEFAULT_WORKERS;
+    private boolean virtualThreads;
+    private long agingNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_AGING_MILLIS);
+    private long retryAfterSeconds = DEFAULT_RETRY_AFTER;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT;
+    private final int[] queueCapacities = new int[Priority.LEVELS];
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedQueue<Task>[] queues = new ConcurrentLinkedQueue[Priority.LEVELS];
+    private final AtomicInteger[] queueSizes = new AtomicInteger[Priority.LEVELS];
+    private final LongAdder[] rejected = new LongAdder[Priority.LEVELS];
+    private final Semaphore available = new Semaphore(0); // 대기열의 작업 수 + 종료 신호 수
+
+    private volatile boolean running;
+    private CountDownLatch terminated = new CountDownLatch(0);
+
+    public PriorityExecutor() {
+        Arrays.fill(queueCapacities, DEFAULT_QUEUE_CAPACITY);
+        for (int level = 0; level < Priority.LEVELS; level++) {
+            queues[level] = new ConcurrentLinkedQueue<>();
+            queueSizes[level] = new AtomicInteger();
+            rejected[level] = new LongAdder();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        requestMetrics.addCollector(this::collect);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 동시에 작업을 실행할 worker 수
+     */
+    public void setWorkers(int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        }
+        this.workers = workers;
+    }
+
+    /**
+     * worker를 virtual thread에서 실행할지 설정합니다. JDK가 지원하지 않으면 플랫폼 스레드를 사용합니다.
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 기다린 작업을 한 단계 앞으로 당기는 데 걸리는 시간(ms)
+     */
+    public void setAgingMillis(long agingMillis) {
+        if (agingMillis <= 0) {
+            throw new IllegalArgumentException("agingMillis must be positive: " + agingMillis);
+        }
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+    }
+
+    /**
+     * 모든 단계의 대기열 크기를 설정합니다.
+     */
+    public void setQueueCapacity(int capacity) {
+        for (int level = 0; level < Priority.LEVELS; level++) {
+            setQueueCapacity(level, capacity);
+        }
+    }
+
+    public void setQueueCapacity(int level, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Queue capacity must not be negative: " + capacity);
+        }
+        queueCapacities[checkLevel(level)] = capacity;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * 거절 응답의 Retry-After(초)
+     */
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 종료할 때 대기열에 남은 작업을 기다리는 최대 시간(ms)
+     */
+    public void setShutdownTimeout(long shutdownTimeoutMillis) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    /**
+     * worker를 시작합니다. 이미 실행 중이면 아무 것도 하지 않습니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        terminated = new CountDownLatch(workers);
+
+        Executor virtualExecutor = virtualThreads ? VirtualThreads.getDefaultVirtualThreadsExecutor() : null;
+        for (int i = 0; i < workers; i++) {
+            if (virtualExecutor != null) {
+                virtualExecutor.execute(this::runWorker);
+            } else {
+                Thread thread = new Thread(this::runWorker, "priority-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * 새 작업을 더 받지 않고, 대기열에 남은 작업을 모두 실행한 뒤 worker를 끝냅니다.
+     */
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        available.release(workers);
+    }
+
+    /**
+     * @return 시간 안에 모든 worker가 끝났으면 true
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * 컨텍스트가 닫힐 때 남은 작업을 실행하고 worker가 끝날 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        shutdown();
+        if (!awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            System.err.println("Priority executor did not terminate in " + shutdownTimeoutMillis + "ms");
+        }
+    }
+
+    /**
+     * 작업을 단계의 대기열에 넣습니다.
+     *
+     * @throws RejectedExecutionException if the queue of the level is full or the executor is not running
+     */
+    public void execute(int level, Runnable command) {
+        checkLevel(level);
+        if (!running) {
+            throw new RejectedExecutionException("Executor is not running");
+        }
+        AtomicInteger size = queueSizes[level];
+        int current;
+        do {
+            current = size.get();
+            if (current >= queueCapacities[level]) {
+                rejected[level].increment();
+                throw new RejectedExecutionException("Queue of priority " + level + " is full (" + current + ")");
+            }
+        } while (!size.compareAndSet(current, current + 1));
+
+        Task task = new Task(command, System.nanoTime() + level * agingNanos);
+        queues[level].offer(task);
+        available.release();
+        // 넣는 사이에 종료되어 마지막 worker가 빈 대기열을 보고 끝났을 수 있음. 아직 남아 있으면 꺼내서 거절
+        if (!running && queues[level].remove(task)) {
+            size.decrementAndGet();
+            throw new RejectedExecutionException("Executor is not running");
+        }
+    }
+
+    /**
+     * 단계의 대기 중인 작업 수
+     */
+    public int getQueueSize(int level) {
+        return queueSizes[checkLevel(level)].get();
+    }
+
+    private void runWorker() {
+        try {
+            while (true) {
+                available.acquire();
+                Task task = poll();
+                if (task == null) {
+                    if (!running) {
+                        return; // 종료 신호
+                    }
+                    continue;
+                }
+                try {
+                    task.command.run();
+                } catch (RuntimeException | Error e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * 단계별 맨 앞 작업 중 기한이 가장 이른 작업을 꺼냅니다.
+     *
+     * @return 모든 대기열이 비었으면 null
+     */
+    private Task poll() {
+        while (true) {
+            int best = -1;
+            long bestDeadline = 0;
+            for (int level = 0; level < Priority.LEVELS; level++) {
+                Task head = queues[level].peek();
+                if (head != null && (best < 0 || head.deadline - bestDeadline < 0)) {
+                    best = level;
+                    bestDeadline = head.deadline;
+                }
+            }
+            if (best < 0) {
+                return null;
+            }
+            Task task = queues[best].poll();
+            if (task != null) {
+                queueSizes[best].decrementAndGet();
+                return task;
+            }
+            // 다른 worker가 먼저 꺼냈으면 다시 비교
+        }
+    }
+
+    private static int checkLevel(int level) {
+        if (level < 0 || level >= Priority.LEVELS) {
+            throw new IllegalArgumentException("Priority must be between 0 and " + (Priority.LEVELS - 1) + ": " + level);
+        }
+        return level;
+    }
+
+    private void collect(StringBuilder out) {
+        if (!enabled) {
+            return;
+        }
+        out.append("# HELP http_server_priority_queue_size Requests waiting for a worker by priority\n");
+        out.append("# TYPE http_server_priority_queue_size gauge\n");
+        for (int level = 0; level < Priority.LEVELS; level++) {
+            out.append("http_server_priority_queue_size{priority=\"").append(level).append("\"} ")
+                    .append(queueSizes[level].get()).append('\n');
+        }
+        out.append("# HELP http_server_priority_rejected_total Requests rejected because the priority queue was full\n");
+        out.append("# TYPE http_server_priority_rejected_total counter\n");
+        for (int level = 0; level < Priority.LEVELS; level++) {
+            out.append("http_server_priority_rejected_total{priority=\"").append(level).append("\"} ")
+                    .append(rejected[level].sum()).append('\n');
+        }
+    }
+
+    private static final class Task {
+        private final Runnable command;
+        private final long deadline;
+
+        private Task(Runnable command, long deadline) {
+            this.command = command;
+            this.deadline = deadline;
+        }
+    }
+}
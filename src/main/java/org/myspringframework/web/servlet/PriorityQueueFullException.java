@@ -0,0 +1,29 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpHeaders;
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 요청의 우선순위 대기열이 가득 차서 요청을 거절할 때 발생합니다. (503, Retry-After header를 담습니다)
+ */
+public class PriorityQueueFullException extends ResponseStatusException {
+    private final int priority;
+    private final long retryAfterSeconds;
+
+    public PriorityQueueFullException(int priority, long retryAfterSeconds) {
+        super(HttpStatusCode.SERVICE_UNAVAILABLE, "Service Unavailable");
+        this.priority = priority;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,112 @@
+package org.myspringframework.web.servlet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 원본 query string 위의 읽기 전용 view입니다.
+ * 미리 Map으로 나누지 않고, 조회할 때마다 query string을 훑어 이름이 일치하는 값만 찾아 해석(percent-decoding)합니다.
+ * 핸들러가 사용하는 parameter는 보통 몇 개뿐이므로, 요청마다 모든 parameter를 나누고 해석하는 것보다 적게 할당합니다.
+ * <p>
+ * '&'로 구분하고, '='가 없는 항목({@code ?flag})의 값은 빈 문자열입니다. 같은 이름이 여러 번 나오면 순서대로 모두 보존합니다.
+ */
+public final class QueryParameters {
+    private static final QueryParameters EMPTY = new QueryParameters("");
+
+    private final String query;
+
+    private QueryParameters(String query) {
+        this.query = query;
+    }
+
+    /**
+     * @param query {@link jakarta.servlet.http.HttpServletRequest#getQueryString()} (null 가능)
+     */
+    public static QueryParameters of(String query) {
+        return query == null || query.isEmpty() ? EMPTY : new QueryParameters(query);
+    }
+
+    /**
+     * @return 첫 번째 값, 없으면 null
+     * @throws IllegalArgumentException if the value has an invalid percent-encoding
+     */
+    public String getFirst(String name) {
+        int start = find(name, 0);
+        return start < 0 ? null : value(start);
+    }
+
+    /**
+     * @return 모든 값 (query string 순서), 없으면 빈 리스트
+     * @throws IllegalArgumentException if a value has an invalid percent-encoding
+     */
+    public List<String> getAll(String name) {
+        int start = find(name, 0);
+        if (start < 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(2);
+        while (start >= 0) {
+            values.add(value(start));
+            start = find(name, pairEnd(start) + 1);
+        }
+        return values;
+    }
+
+    public boolean contains(String name) {
+        return find(name, 0) >= 0;
+    }
+
+    /**
+     * from부터 이름이 일치하는 항목의 시작 위치를 찾습니다.
+     *
+     * @return 없으면 -1
+     */
+    private int find(String name, int from) {
+        int length = query.length();
+        int start = from;
+        while (start < length) {
+            int end = pairEnd(start);
+            if (keyMatches(name, start, keyEnd(start, end))) {
+                return start;
+            }
+            start = end + 1;
+        }
+        return -1;
+    }
+
+    private boolean keyMatches(String name, int start, int end) {
+        if (UriDecoder.needsDecoding(query, start, end, true)) {
+            return UriDecoder.decode(query, start, end, true).equals(name);
+        }
+        return end - start == name.length() && query.regionMatches(start, name, 0, name.length());
+    }
+
+    private String value(int start) {
+        int end = pairEnd(start);
+        int keyEnd = keyEnd(start, end);
+        return keyEnd == end ? "" : UriDecoder.decode(query, keyEnd + 1, end, true);
+    }
+
+    /**
+     * @return 항목 안의 첫 '=' 위치, 없으면 end
+     */
+    private int keyEnd(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (query.charAt(i) == '=') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private int pairEnd(int start) {
+        int end = query.indexOf('&', start);
+        return end < 0 ? query.length() : end;
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
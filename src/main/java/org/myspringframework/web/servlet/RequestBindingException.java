@@ -0,0 +1,19 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 요청 값(path variable, query parameter, body)을 핸들러 매개변수로 변환하지 못했을 때 발생합니다. (400)
+ */
+public class RequestBindingException extends ResponseStatusException {
+    private final String parameterName;
+
+    public RequestBindingException(String parameterName, Throwable cause) {
+        super(HttpStatusCode.BAD_REQUEST, "Failed to bind parameter '" + parameterName + "'", cause);
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+}
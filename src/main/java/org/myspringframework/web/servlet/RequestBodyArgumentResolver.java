@@ -0,0 +1,28 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.mapper.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * {@code @RequestBody} 매개변수. body가 비어 있으면(Content-Length: 0) null입니다.
+ */
+public final class RequestBodyArgumentResolver implements ArgumentResolver {
+    private final Type targetType;
+    private final ObjectMapper objectMapper;
+
+    public RequestBodyArgumentResolver(Type targetType, ObjectMapper objectMapper) {
+        this.targetType = targetType;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object resolve(RequestContext context) throws IOException {
+        CachedRequestBody body = context.getCachedBody();
+        if (body != null) {
+            return body.size() == 0 ? null : body.readValue(objectMapper, targetType);
+        }
+        return objectMapper.readValue(context.getRequestBody(), targetType);
+    }
+}
@@ -0,0 +1,212 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Servlet async I/O로 요청 body를 읽습니다.
+ * 도착한 바이트만 읽고 반환하므로 느린 업로드가 worker 스레드를 점유하지 않습니다.
+ * memoryThreshold를 넘으면 임시 파일에 이어서 쓰고, maxSize를 넘으면 더 읽지 않고 실패로 끝냅니다.
+ * <p>
+ * Content-Encoding이 gzip/deflate이면 받은 body를 다 읽은 뒤 압축을 풀고, 풀린 크기에도 같은 제한을 적용합니다.
+ */
+final class RequestBodyReader implements ReadListener {
+    private static final int CHUNK_SIZE = 8192;
+
+    interface Callback {
+        void onBody(CachedRequestBody body);
+
+        void onFailure(Throwable failure);
+    }
+
+    private final ServletInputStream input;
+    private final long maxSize;
+    private final int memoryThreshold;
+    private final String contentEncoding;
+    private final Callback callback;
+
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private byte[] memory;
+    private int memoryLength;
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private long size;
+    private boolean finished;
+
+    /**
+     * @param contentEncoding null, "gzip" 또는 "deflate"
+     */
+    RequestBodyReader(ServletInputStream input, long maxSize, int memoryThreshold, long contentLength,
+                      String contentEncoding, Callback callback) {
+        this.input = input;
+        this.maxSize = maxSize;
+        this.memoryThreshold = memoryThreshold;
+        this.contentEncoding = contentEncoding;
+        this.callback = callback;
+        // Content-Length를 알면 한 번에 할당
+        int initial = contentLength >= 0 && contentLength <= memoryThreshold ? (int) contentLength : CHUNK_SIZE;
+        this.memory = new byte[Math.max(initial, 16)];
+    }
+
+    @Override
+    public synchronized void onDataAvailable() throws IOException {
+        int n;
+        while (!finished && input.isReady() && (n = input.read(chunk)) != -1) {
+            if (!append(chunk, n)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onAllDataRead() throws IOException {
+        if (finished) {
+            return;
+        }
+        CachedRequestBody body = takeBody();
+        if (contentEncoding != null) {
+            body = decode(body);
+            if (body == null) {
+                return;
+            }
+        }
+        finished = true;
+        callback.onBody(body);
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+        fail(t);
+    }
+
+    /**
+     * 요청이 끝났는데 body를 다 읽지 못했으면 임시 파일을 정리합니다.
+     */
+    synchronized void discard() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        memory = null;
+        closeSpill();
+    }
+
+    /**
+     * 읽은 바이트를 메모리나 임시 파일에 추가합니다.
+     *
+     * @return 최대 크기를 넘어 실패했으면 false
+     */
+    private boolean append(byte[] bytes, int n) throws IOException {
+        size += n;
+        if (size > maxSize) {
+            fail(new PayloadTooLargeException(maxSize));
+            return false;
+        }
+        if (spillChannel == null && size > memoryThreshold) {
+            spill();
+        }
+        if (spillChannel != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, n);
+            while (buffer.hasRemaining()) {
+                spillChannel.write(buffer);
+            }
+        } else {
+            if (memoryLength + n > memory.length) {
+                memory = Arrays.copyOf(memory, Math.min(Math.max(memory.length * 2, memoryLength + n), memoryThreshold));
+            }
+            System.arraycopy(bytes, 0, memory, memoryLength, n);
+            memoryLength += n;
+        }
+        return true;
+    }
+
+    /**
+     * 지금까지 받은 바이트를 body로 만들고 버퍼를 초기화합니다.
+     */
+    private CachedRequestBody takeBody() throws IOException {
+        CachedRequestBody body;
+        if (spillChannel != null) {
+            spillChannel.close();
+            body = CachedRequestBody.spilled(spillFile, size);
+        } else {
+            body = CachedRequestBody.inMemory(memory, memoryLength);
+        }
+        memory = null;
+        memoryLength = 0;
+        spillChannel = null;
+        spillFile = null;
+        size = 0;
+        return body;
+    }
+
+    /**
+     * 압축된 body를 풀어서 새 body를 만듭니다.
+     *
+     * @return 실패했으면 null (callback에 이미 알림)
+     */
+    private CachedRequestBody decode(CachedRequestBody compressed) throws IOException {
+        memory = new byte[CHUNK_SIZE];
+        try (compressed;
+             InputStream in = "gzip".equals(contentEncoding)
+                     ? new GZIPInputStream(compressed.openStream(), CHUNK_SIZE)
+                     : new InflaterInputStream(compressed.openStream())) {
+            int n;
+            while ((n = in.read(chunk)) != -1) {
+                if (!append(chunk, n)) {
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            fail(new IllegalArgumentException("Malformed " + contentEncoding + " request body", e));
+            return null;
+        }
+        return takeBody();
+    }
+
+    /**
+     * 지금까지 메모리에 받은 바이트를 임시 파일로 옮깁니다.
+     */
+    private void spill() throws IOException {
+        spillFile = Files.createTempFile("request-body-", ".json");
+        spillChannel = FileChannel.open(spillFile, StandardOpenOption.WRITE);
+        ByteBuffer buffer = ByteBuffer.wrap(memory, 0, memoryLength);
+        while (buffer.hasRemaining()) {
+            spillChannel.write(buffer);
+        }
+        memory = null;
+        memoryLength = 0;
+    }
+
+    private void fail(Throwable failure) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        memory = null;
+        closeSpill();
+        callback.onFailure(failure);
+    }
+
+    private void closeSpill() {
+        if (spillChannel == null) {
+            return;
+        }
+        try {
+            spillChannel.close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            // 임시 파일 정리 실패는 요청 처리 결과에 영향을 주지 않습니다.
+        }
+    }
+}
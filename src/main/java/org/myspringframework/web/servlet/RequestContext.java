@@ -0,0 +1,98 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 요청 하나를 처리하는 동안 argument resolver들이 공유하는 상태입니다.
+ * 요청 body와 query parameter는 필요한 resolver가 있을 때만 읽습니다. query string은 나누지 않고 조회할 때 필요한 값만 찾습니다.
+ */
+public final class RequestContext {
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private final HandlerMatch match;
+
+    private final CachedRequestBody cachedBody;
+
+    private String requestBody;
+    private QueryParameters queryParameters;
+    private boolean notModified;
+
+    public RequestContext(HttpServletRequest request, HttpServletResponse response, HandlerMatch match) {
+        this(request, response, match, null);
+    }
+
+    /**
+     * @param cachedBody 핸들러 호출 전에 미리 읽어 둔 body
+     */
+    public RequestContext(HttpServletRequest request, HttpServletResponse response, HandlerMatch match,
+                          CachedRequestBody cachedBody) {
+        this.request = request;
+        this.response = response;
+        this.match = match;
+        this.cachedBody = cachedBody;
+    }
+
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
+    public HttpServletResponse getResponse() {
+        return response;
+    }
+
+    public HandlerMatch getMatch() {
+        return match;
+    }
+
+    /**
+     * 미리 읽어 둔 body. 없으면 null
+     */
+    public CachedRequestBody getCachedBody() {
+        return cachedBody;
+    }
+
+    public String getRequestBody() throws IOException {
+        if (requestBody == null && cachedBody != null) {
+            requestBody = cachedBody.asString();
+        }
+        if (requestBody == null) {
+            StringBuilder sb = new StringBuilder();
+            BufferedReader reader = request.getReader();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line);
+            }
+            requestBody = sb.toString();
+        }
+        return requestBody;
+    }
+
+    /**
+     * {@link WebRequest#checkNotModified}로 304 응답이 결정되었으면 true
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public void setNotModified(boolean notModified) {
+        this.notModified = notModified;
+    }
+
+    /**
+     * @return 첫 번째 값(percent-decoding 적용), 없으면 null
+     */
+    public String getQueryParam(String name) {
+        return getQueryParameters().getFirst(name);
+    }
+
+    public QueryParameters getQueryParameters() {
+        if (queryParameters == null) {
+            queryParameters = QueryParameters.of(request.getQueryString());
+        }
+        return queryParameters;
+    }
+}
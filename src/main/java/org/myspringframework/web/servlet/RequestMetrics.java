@@ -0,0 +1,208 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.myspringframework.metrics.LatencyHistogram;
+import org.myspringframework.metrics.MetricsCollector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 핸들러 패턴별 요청 수, 처리 시간, 요청/응답 byte 수를 기록하고 Prometheus text 형식으로 내보냅니다.
+ * <p>
+ * 요청 수와 byte 수는 {@link LongAdder}, 처리 시간은 {@link LatencyHistogram}에 기록하므로
+ * 기록 경로에 lock이나 할당이 없습니다. 처리 시간은 status class(2xx, 4xx 등)별로 나눠서 기록합니다.
+ */
+public class RequestMetrics {
+    public static final String DEFAULT_PATH = "/metrics";
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+    private static final String NOT_FOUND = "NOT_FOUND";
+
+    private boolean enabled = true;
+    private String path = DEFAULT_PATH;
+
+    private final Map<HandlerPattern, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final EndpointMetrics notFound = new EndpointMetrics("", NOT_FOUND);
+    private final List<MetricsCollector> collectors = new CopyOnWriteArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Prometheus가 수집할 경로 (기본 /metrics)
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * metrics endpoint에 함께 내보낼 값을 등록합니다.
+     */
+    public void addCollector(MetricsCollector collector) {
+        collectors.add(collector);
+    }
+
+    /**
+     * 요청 하나를 기록합니다. 응답이 끝난 뒤 호출합니다.
+     *
+     * @param pattern 처리한 핸들러의 패턴, 핸들러를 찾지 못했으면 null
+     */
+    public void record(HttpServletRequest req, HttpServletResponse resp, HandlerPattern pattern, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        EndpointMetrics endpoint = pattern == null ? notFound : endpoints.computeIfAbsent(pattern,
+                p -> new EndpointMetrics(p.getHttpMethod().name(), p.getPathTemplate()));
+        endpoint.record(resp.getStatus(), elapsed, bytesIn(req), bytesOut(resp));
+    }
+
+    /**
+     * 읽은 요청 body byte 수. Jetty 요청이 아니면 Content-Length를 사용합니다.
+     */
+    private static long bytesIn(HttpServletRequest req) {
+        if (req instanceof Request jettyRequest) {
+            return jettyRequest.getHttpInput().getContentReceived();
+        }
+        return Math.max(0, req.getContentLengthLong());
+    }
+
+    /**
+     * 쓴 응답 body byte 수 (압축한 경우 압축 후 크기)
+     */
+    private static long bytesOut(HttpServletResponse resp) {
+        if (resp instanceof Response jettyResponse) {
+            return jettyResponse.getHttpOutput().getWritten();
+        }
+        return 0;
+    }
+
+    /**
+     * 기록된 값을 Prometheus text exposition 형식으로 만듭니다.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        out.append("# HELP http_server_requests_seconds HTTP request latency by handler pattern and status class\n");
+        out.append("# TYPE http_server_requests_seconds summary\n");
+        forEachEndpoint(endpoint -> endpoint.writeLatency(out));
+
+        out.append("# HELP http_server_request_bytes_total Request body bytes read\n");
+        out.append("# TYPE http_server_request_bytes_total counter\n");
+        forEachEndpoint(endpoint -> endpoint.writeBytes(out, "http_server_request_bytes_total", endpoint.bytesIn));
+
+        out.append("# HELP http_server_response_bytes_total Response body bytes written\n");
+        out.append("# TYPE http_server_response_bytes_total counter\n");
+        forEachEndpoint(endpoint -> endpoint.writeBytes(out, "http_server_response_bytes_total", endpoint.bytesOut));
+
+        for (MetricsCollector collector : collectors) {
+            collector.collect(out);
+        }
+        return out.toString();
+    }
+
+    private void forEachEndpoint(Consumer<EndpointMetrics> action) {
+        endpoints.values().forEach(action);
+        action.accept(notFound);
+    }
+
+    static String escapeLabel(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void appendSeconds(StringBuilder out, long nanos) {
+        out.append(nanos / 1e9).append('\n');
+    }
+
+    private static final class EndpointMetrics {
+        private final String labels;
+        private final AtomicReferenceArray<StatusMetrics> statuses = new AtomicReferenceArray<>(6); // 0xx ~ 5xx
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+
+        private EndpointMetrics(String method, String uri) {
+            this.labels = "method=\"" + escapeLabel(method) + "\",uri=\"" + escapeLabel(uri) + "\"";
+        }
+
+        private void record(int status, long elapsedNanos, long in, long out) {
+            int statusClass = status / 100;
+            if (statusClass < 0 || statusClass > 5) {
+                statusClass = 0;
+            }
+            StatusMetrics metrics = statuses.get(statusClass);
+            if (metrics == null) {
+                statuses.compareAndSet(statusClass, null, new StatusMetrics());
+                metrics = statuses.get(statusClass);
+            }
+            metrics.requests.increment();
+            metrics.latency.record(elapsedNanos);
+            if (in > 0) {
+                bytesIn.add(in);
+            }
+            if (out > 0) {
+                bytesOut.add(out);
+            }
+        }
+
+        private boolean isEmpty() {
+            for (int i = 0; i < statuses.length(); i++) {
+                if (statuses.get(i) != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void writeLatency(StringBuilder out) {
+            for (int i = 0; i < statuses.length(); i++) {
+                StatusMetrics metrics = statuses.get(i);
+                if (metrics == null) {
+                    continue;
+                }
+                String statusLabels = labels + ",status=\"" + i + "xx\"";
+                LatencyHistogram.Snapshot snapshot = metrics.latency.snapshot();
+                for (int q = 0; q < QUANTILES.length; q++) {
+                    out.append("http_server_requests_seconds{").append(statusLabels)
+                            .append(",quantile=\"").append(QUANTILE_LABELS[q]).append("\"} ");
+                    appendSeconds(out, snapshot.getValueAtQuantile(QUANTILES[q]));
+                }
+                out.append("http_server_requests_seconds_count{").append(statusLabels).append("} ")
+                        .append(metrics.requests.sum()).append('\n');
+                out.append("http_server_requests_seconds_sum{").append(statusLabels).append("} ");
+                appendSeconds(out, snapshot.getSum());
+            }
+        }
+
+        private void writeBytes(StringBuilder out, String name, LongAdder bytes) {
+            if (isEmpty()) {
+                return;
+            }
+            out.append(name).append('{').append(labels).append("} ").append(bytes.sum()).append('\n');
+        }
+    }
+
+    private static final class StatusMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,98 @@
+package org.myspringframework.web.servlet;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code @RequestParam} 매개변수, 또는 어노테이션 없는 단순 타입 매개변수 (매개변수 이름을 query parameter 이름으로 사용)
+ * <p>
+ * {@code List<T>}, {@code Set<T>} 매개변수는 같은 이름의 값을 모두 받습니다. ({@code ?id=1&id=2})
+ * 값이 없거나 String이 아닌 타입에 빈 값이 오면, 필수 매개변수와 primitive는 400으로 응답하고 그 외에는 null을 전달합니다.
+ */
+public final class RequestParamArgumentResolver implements ArgumentResolver {
+    private final String name;
+    private final boolean required;
+    private final boolean multiValued;
+    private final boolean asSet;
+    private final boolean allowEmpty;
+    private final ScalarConverter<?> converter;
+
+    /**
+     * @throws IllegalStateException if the type (or element type) has no {@link ScalarConverter}
+     */
+    public RequestParamArgumentResolver(String name, Type targetType, boolean required, ScalarConverters converters) {
+        this.name = name;
+
+        Type rawType = targetType instanceof ParameterizedType parameterized ? parameterized.getRawType() : targetType;
+        Class<?> valueType;
+        if (rawType == List.class || rawType == Collection.class || rawType == Set.class) {
+            this.multiValued = true;
+            this.asSet = rawType == Set.class;
+            Type elementType = targetType instanceof ParameterizedType parameterized
+                    ? parameterized.getActualTypeArguments()[0]
+                    : String.class;
+            if (!(elementType instanceof Class<?> elementClass)) {
+                throw new IllegalStateException("Unsupported element type of @RequestParam '" + name + "': " + targetType);
+            }
+            valueType = elementClass;
+        } else if (rawType instanceof Class<?> clazz) {
+            this.multiValued = false;
+            this.asSet = false;
+            valueType = clazz;
+        } else {
+            throw new IllegalStateException("Unsupported type of @RequestParam '" + name + "': " + targetType);
+        }
+
+        this.converter = converters.find(valueType);
+        if (converter == null) {
+            throw new IllegalStateException("Unsupported type of @RequestParam '" + name + "': " + targetType);
+        }
+        this.required = required || (!multiValued && valueType.isPrimitive());
+        this.allowEmpty = valueType == String.class;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 같은 이름의 값을 모두 받는 컬렉션 매개변수이면 true
+     */
+    public boolean isMultiValued() {
+        return multiValued;
+    }
+
+    @Override
+    public Object resolve(RequestContext context) {
+        QueryParameters parameters = context.getQueryParameters();
+        if (!multiValued) {
+            String value = parameters.getFirst(name);
+            return isMissing(value) ? missing() : converter.convert(value);
+        }
+
+        List<String> values = parameters.getAll(name);
+        Collection<Object> result = asSet ? new LinkedHashSet<>() : new ArrayList<>(values.size());
+        for (String value : values) {
+            if (!isMissing(value)) {
+                result.add(converter.convert(value));
+            }
+        }
+        return result.isEmpty() ? missing() : result;
+    }
+
+    private boolean isMissing(String value) {
+        return value == null || (value.isEmpty() && !allowEmpty);
+    }
+
+    private Object missing() {
+        if (required) {
+            throw new MissingRequestParameterException(name);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package org.myspringframework.web.servlet;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 처리 단계 하나의 JFR 이벤트입니다. 이벤트의 시작과 끝이 단계의 구간입니다.
+ * <pre>
+ * java -XX:StartFlightRecording:filename=rec.jfr ...
+ * jfr print --events org.myspringframework.RequestPhase rec.jfr
+ * </pre>
+ * 기록 중이 아니면 이벤트 객체를 만들지 않습니다.
+ */
+@Name("org.myspringframework.RequestPhase")
+@Label("Request Phase")
+@Category({"MySpringBoot", "HTTP"})
+@Description("One phase of request dispatch: route, read, bind, parse, handler, serialize, write or the whole request")
+@StackTrace(false)
+final class RequestPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("Matched handler pattern, or the request path if no handler matched")
+    String route;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Status")
+    int status;
+}
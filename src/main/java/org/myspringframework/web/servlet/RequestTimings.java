@@ -0,0 +1,164 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 요청 하나의 처리 단계별 소요 시간입니다.
+ * JFR에서 {@link RequestPhaseEvent}를 기록 중이거나 Server-Timing header를 켠 경우에만 만들어 request attribute에 둡니다.
+ * 둘 다 꺼져 있으면 {@link #of}가 null을 반환하므로, 각 단계에서는 null 확인 외의 비용이 없습니다.
+ * <p>
+ * 단계는 순서대로 실행되므로 async 요청에서 스레드가 바뀌어도 동기화 없이 사용합니다. (스레드 전환은 컨테이너가 happens-before를 보장)
+ */
+final class RequestTimings {
+    private static final String ATTRIBUTE = RequestTimings.class.getName();
+    private static final RequestPhaseEvent PROBE = new RequestPhaseEvent(); // 기록 여부 확인용, commit하지 않음
+
+    enum Phase {
+        ROUTE("route"),
+        READ("read"),
+        BIND("bind"),       // parse 포함
+        PARSE("parse"),
+        HANDLER("handler"),
+        SERIALIZE("serialize"),
+        WRITE("write"),
+        REQUEST("total");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final boolean serverTiming;
+    private final boolean jfr;
+    private final String method;
+    private String route;
+    private long requestBytes;
+    private long responseBytes;
+
+    private final long[] starts = new long[PHASES.length];
+    private final long[] durations = new long[PHASES.length];
+    private final boolean[] running = new boolean[PHASES.length];
+    private final RequestPhaseEvent[] events;
+
+    private RequestTimings(HttpServletRequest req, boolean serverTiming, boolean jfr, long start) {
+        this.serverTiming = serverTiming;
+        this.jfr = jfr;
+        this.method = req.getMethod();
+        this.route = req.getRequestURI();
+        this.events = jfr ? new RequestPhaseEvent[PHASES.length] : null;
+        Arrays.fill(durations, -1);
+        starts[Phase.REQUEST.ordinal()] = start;
+        running[Phase.REQUEST.ordinal()] = true;
+        if (jfr) {
+            RequestPhaseEvent event = new RequestPhaseEvent();
+            event.begin();
+            events[Phase.REQUEST.ordinal()] = event;
+        }
+    }
+
+    /**
+     * 요청 처리를 시작할 때 호출합니다.
+     *
+     * @param serverTiming 응답에 Server-Timing header를 붙일지 여부
+     * @return JFR 기록 중이 아니고 Server-Timing도 꺼져 있으면 null
+     */
+    static RequestTimings start(HttpServletRequest req, boolean serverTiming, long start) {
+        boolean jfr = PROBE.isEnabled();
+        if (!jfr && !serverTiming) {
+            return null;
+        }
+        RequestTimings timings = new RequestTimings(req, serverTiming, jfr, start);
+        req.setAttribute(ATTRIBUTE, timings);
+        return timings;
+    }
+
+    /**
+     * @return 측정하지 않는 요청이면 null
+     */
+    static RequestTimings of(HttpServletRequest req) {
+        return (RequestTimings) req.getAttribute(ATTRIBUTE);
+    }
+
+    void begin(Phase phase) {
+        starts[phase.ordinal()] = System.nanoTime();
+        running[phase.ordinal()] = true;
+        if (jfr) {
+            RequestPhaseEvent event = new RequestPhaseEvent();
+            event.begin();
+            events[phase.ordinal()] = event;
+        }
+    }
+
+    /**
+     * 단계를 마칩니다. 같은 단계가 여러 번 실행되면 시간을 더합니다.
+     */
+    void end(Phase phase, int status) {
+        int index = phase.ordinal();
+        long elapsed = System.nanoTime() - starts[index];
+        durations[index] = Math.max(durations[index], 0) + elapsed;
+        running[index] = false;
+        if (jfr && events[index] != null) {
+            RequestPhaseEvent event = events[index];
+            events[index] = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase.metricName;
+                event.method = method;
+                event.route = route;
+                event.requestBytes = requestBytes;
+                event.responseBytes = responseBytes;
+                event.status = status;
+                event.commit();
+            }
+        }
+    }
+
+    void end(Phase phase) {
+        end(phase, 0);
+    }
+
+    void setRoute(HandlerPattern pattern) {
+        this.route = pattern.getPathTemplate();
+    }
+
+    void setRequestBytes(long requestBytes) {
+        this.requestBytes = requestBytes;
+    }
+
+    void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+
+    boolean isServerTiming() {
+        return serverTiming;
+    }
+
+    /**
+     * 지금까지 실행한 단계로 Server-Timing header 값을 만듭니다. (ms 단위)
+     * header는 body보다 먼저 나가야 하므로, 아직 끝나지 않은 단계(write, total)는 지금까지의 경과 시간입니다.
+     * <pre>route;dur=0.012, bind;dur=0.210, handler;dur=3.105, serialize;dur=0.087, write;dur=0.041, total;dur=3.640</pre>
+     */
+    String toServerTiming() {
+        long now = System.nanoTime();
+        StringBuilder value = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            int index = phase.ordinal();
+            if (durations[index] < 0 && !running[index]) {
+                continue;
+            }
+            long duration = Math.max(durations[index], 0) + (running[index] ? now - starts[index] : 0);
+            if (value.length() > 0) {
+                value.append(", ");
+            }
+            value.append(phase.metricName).append(";dur=").append(String.format(Locale.ROOT, "%.3f", duration / 1e6));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.annotations.PreDestroy;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code @ResponseCache} 핸들러의 cache를 이름으로 관리합니다. 데이터가 바뀌었을 때 cache를 직접 비우는 용도로 주입받아 사용합니다.
+ * <pre>
+ * &#64;Autowired
+ * private ResponseCacheManager responseCacheManager;
+ *
+ * public void update(Long id, ...) {
+ *     ...
+ *     responseCacheManager.getCache("ArticleController.get").evict(id);
+ * }
+ * </pre>
+ */
+public class ResponseCacheManager {
+    static final long REFRESH_SHUTDOWN_TIMEOUT = 5_000;
+
+    private final Map<String, HandlerResponseCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+
+    public ResponseCacheManager() {
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "response-cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        this.refreshExecutor = executor;
+    }
+
+    void register(HandlerResponseCache cache) {
+        if (caches.putIfAbsent(cache.getName(), cache) != null) {
+            throw new IllegalStateException("Duplicate response cache name: " + cache.getName());
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if no cache has the name
+     */
+    public HandlerResponseCache getCache(String name) {
+        HandlerResponseCache cache = caches.get(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("No response cache named " + name + ", available: " + caches.keySet());
+        }
+        return cache;
+    }
+
+    public Collection<HandlerResponseCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    public void evictAll() {
+        caches.values().forEach(HandlerResponseCache::evictAll);
+    }
+
+    /**
+     * 새 갱신을 받지 않고, 이미 맡은 갱신이 끝날 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        refreshExecutor.shutdown();
+        if (!refreshExecutor.awaitTermination(REFRESH_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+            System.err.println("Response cache refresh did not finish in " + REFRESH_SHUTDOWN_TIMEOUT + "ms");
+        }
+    }
+
+    /**
+     * stale entry를 갱신하는 background executor
+     */
+    public ExecutorService getRefreshExecutor() {
+        return refreshExecutor;
+    }
+}
@@ -0,0 +1,33 @@
+package org.myspringframework.web.servlet;
+
+import org.myspringframework.web.http.HttpHeaders;
+import org.myspringframework.web.http.HttpStatusCode;
+
+/**
+ * 응답 status가 정해진 예외입니다. 처리하는 {@code @ExceptionHandler}가 없으면 이 status와 메시지로 응답하고, 로그를 남기지 않습니다.
+ * <p>
+ * 잘못된 요청은 한꺼번에 대량으로 들어올 수 있으므로 stack trace를 만들지 않습니다.
+ */
+public class ResponseStatusException extends RuntimeException {
+    private final HttpStatusCode status;
+
+    public ResponseStatusException(HttpStatusCode status, String reason) {
+        this(status, reason, null);
+    }
+
+    public ResponseStatusException(HttpStatusCode status, String reason, Throwable cause) {
+        super(reason, cause, false, false);
+        this.status = status;
+    }
+
+    public HttpStatusCode getStatus() {
+        return status;
+    }
+
+    /**
+     * 응답에 추가할 header. {@code @ExceptionHandler}로 처리하는 경우에도 붙습니다.
+     */
+    public HttpHeaders getHeaders() {
+        return new HttpHeaders();
+    }
+}
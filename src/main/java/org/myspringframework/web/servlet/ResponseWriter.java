@@ -0,0 +1,478 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.myspringframework.cache.TinyLfuCache;
+import org.myspringframework.web.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 body를 씁니다. 클라이언트가 Accept-Encoding으로 허용하면 gzip 또는 deflate로 압축합니다.
+ * <ul>
+ *     <li>GET 200 응답에는 body의 xxHash64로 ETag를 붙이고, If-None-Match가 일치하면 304로 응답합니다.</li>
+ *     <li>minResponseSize보다 작은 body는 압축하지 않습니다.</li>
+ *     <li>{@link Deflater}는 생성과 해제 비용이 크므로 pool에서 재사용합니다.</li>
+ *     <li>Cache-Control로 캐시 가능한 응답은 압축 결과를 body의 xxHash64(ETag와 같은 값)와 길이 기준으로 보관해,
+ *     같은 body를 다시 압축하지 않습니다. 압축 전 body는 보관하지 않고, 보관량은 entry 수와 압축 결과의 byte 합계로 제한합니다.</li>
+ * </ul>
+ */
+public class ResponseWriter {
+    public static final int DEFAULT_MIN_RESPONSE_SIZE = 1024;
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    public static final long DEFAULT_CACHE_MAX_BYTES = 4L << 20; // 4MB
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    // gzip header: magic, CM=deflate, FLG=0, MTIME=0, XFL=0, OS=unknown
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private boolean etagEnabled = true;
+    private boolean compressionEnabled = true;
+    private int minResponseSize = DEFAULT_MIN_RESPONSE_SIZE;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+    private final int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+    private volatile ArrayBlockingQueue<Deflater> gzipDeflaters = new ArrayBlockingQueue<>(poolSize);
+    private volatile ArrayBlockingQueue<Deflater> zlibDeflaters = new ArrayBlockingQueue<>(poolSize);
+
+    private static final int CACHE_ENTRY_OVERHEAD = 64; // entry, key 객체의 대략적인 크기
+
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+    private long cacheMaxBytes = DEFAULT_CACHE_MAX_BYTES;
+    private volatile TinyLfuCache<CacheKey, CompressedBody> compressedCache = newCompressedCache();
+
+    /**
+     * GET 200 응답에 body 해시로 strong ETag를 자동으로 붙일지 설정합니다.
+     */
+    public void setETagEnabled(boolean etagEnabled) {
+        this.etagEnabled = etagEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public void setMinResponseSize(int minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+
+    /**
+     * 압축 레벨(0~9, -1은 기본값)을 설정합니다. pool에 있던 Deflater는 버립니다.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+        this.compressionLevel = compressionLevel;
+        ArrayBlockingQueue<Deflater> oldGzip = gzipDeflaters;
+        ArrayBlockingQueue<Deflater> oldZlib = zlibDeflaters;
+        gzipDeflaters = new ArrayBlockingQueue<>(poolSize);
+        zlibDeflaters = new ArrayBlockingQueue<>(poolSize);
+        oldGzip.forEach(Deflater::end);
+        oldZlib.forEach(Deflater::end);
+        compressedCache = newCompressedCache();
+    }
+
+    /**
+     * 압축 결과를 보관할 최대 응답 수. 0이면 보관하지 않습니다.
+     */
+    public synchronized void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        compressedCache = newCompressedCache();
+    }
+
+    /**
+     * 보관할 압축 결과의 최대 byte 합계(비교용으로 함께 보관하는 압축 전 body 포함). 0이면 보관하지 않습니다.
+     */
+    public synchronized void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+        compressedCache = newCompressedCache();
+    }
+
+    private TinyLfuCache<CacheKey, CompressedBody> newCompressedCache() {
+        if (cacheSize <= 0 || cacheMaxBytes <= 0) {
+            return null;
+        }
+        return new TinyLfuCache<>(cacheMaxBytes, cacheSize,
+                (key, entry) -> entry.body.length + entry.compressed.length + CACHE_ENTRY_OVERHEAD);
+    }
+
+    /**
+     * body를 씁니다. GET/HEAD 200 응답에는 ETag를 붙이고, If-None-Match와 일치하면 압축하지 않고 304로 응답합니다.
+     * 핸들러가 ETag header를 이미 설정했으면 그 값을 사용합니다.
+     */
+    public void write(HttpServletRequest req, HttpServletResponse resp, int status, String contentType, String body)
+            throws IOException {
+        writeBytes(req, resp, status, contentType, body.getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * 직렬화해 둔 응답을 씁니다. 저장된 header를 복사하고, ETag와 압축 결과는 응답 객체에 보관된 값을 재사용합니다.
+     */
+    public void write(HttpServletRequest req, HttpServletResponse resp, CachedResponse cached) throws IOException {
+        for (Map.Entry<String, List<String>> header : cached.getHeaders().asMap().entrySet()) {
+            for (String value : header.getValue()) {
+                resp.addHeader(header.getKey(), value);
+            }
+        }
+        writeBytes(req, resp, cached.getStatus(), cached.getContentType(), cached.getBody(), cached);
+    }
+
+    private void writeBytes(HttpServletRequest req, HttpServletResponse resp, int status, String contentType,
+                            byte[] bytes, CachedResponse cached) throws IOException {
+        RequestTimings timings = RequestTimings.of(req);
+        if (timings != null) {
+            timings.begin(RequestTimings.Phase.WRITE);
+        }
+
+        String encoding = null;
+        if (compressionEnabled) {
+            resp.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (bytes.length >= minResponseSize && !resp.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+                encoding = negotiate(req.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            }
+        }
+
+        long hash = 0; // body의 xxHash64. ETag와 압축 결과 cache key에 함께 사용
+        boolean hashed = false;
+        if (status == HttpServletResponse.SC_OK && isSafeMethod(req)) {
+            String etag = resp.getHeader(HttpHeaders.ETAG);
+            if (etag == null && etagEnabled) {
+                if (cached != null) {
+                    etag = cached.getETag(encoding);
+                } else {
+                    hash = XxHash64.hash(bytes, 0, bytes.length);
+                    hashed = true;
+                    etag = formatETag(Long.toHexString(hash), encoding);
+                }
+                resp.setHeader(HttpHeaders.ETAG, etag);
+            } else if (etag != null && encoding != null && !etag.startsWith("W/")) {
+                // 핸들러가 지정한 strong ETag도 압축한 표현은 다른 byte이므로 인코딩을 붙여 구분
+                etag = withEncoding(etag, encoding);
+                resp.setHeader(HttpHeaders.ETAG, etag);
+            }
+            if (etag != null && etagMatches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                writeServerTiming(resp, timings);
+                writeNotModified(resp);
+                if (timings != null) {
+                    timings.end(RequestTimings.Phase.WRITE, HttpServletResponse.SC_NOT_MODIFIED);
+                }
+                return;
+            }
+        }
+
+        resp.setStatus(status);
+        resp.setContentType(contentType);
+        if (encoding != null) {
+            if (cached != null) {
+                bytes = compressCached(cached, encoding);
+            } else if (isCacheable(resp.getHeader(HttpHeaders.CACHE_CONTROL))) {
+                bytes = compressCached(bytes, encoding, hashed ? hash : XxHash64.hash(bytes, 0, bytes.length));
+            } else {
+                bytes = compress(bytes, encoding);
+            }
+            resp.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+
+        resp.setContentLength(bytes.length);
+        writeServerTiming(resp, timings);
+        resp.getOutputStream().write(bytes);
+        if (timings != null) {
+            timings.setResponseBytes(bytes.length);
+            timings.end(RequestTimings.Phase.WRITE, status);
+        }
+    }
+
+    /**
+     * body를 쓰기 전에 지금까지의 처리 단계 시간을 Server-Timing header로 붙입니다.
+     */
+    private static void writeServerTiming(HttpServletResponse resp, RequestTimings timings) {
+        if (timings != null && timings.isServerTiming()) {
+            resp.setHeader(HttpHeaders.SERVER_TIMING, timings.toServerTiming());
+        }
+    }
+
+    /**
+     * 핸들러가 지정한 ETag가 요청의 If-None-Match와 일치하면 304로 응답합니다.
+     * body를 직렬화하기 전에 호출합니다.
+     *
+     * @return 304로 응답했으면 true
+     */
+    public boolean checkNotModified(HttpServletRequest req, HttpServletResponse resp, String etag) {
+        if (etag == null || !isSafeMethod(req)) {
+            return false;
+        }
+        resp.setHeader(HttpHeaders.ETAG, etag);
+        if (handlerETagMatches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            if (compressionEnabled) {
+                resp.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            writeNotModified(resp);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * body 없이 304로 응답합니다. ETag, Cache-Control 등 이미 설정한 header는 유지됩니다.
+     */
+    public void writeNotModified(HttpServletResponse resp) {
+        resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    }
+
+    /**
+     * 압축 전 body의 xxHash64로 strong ETag를 만듭니다. 압축한 표현은 인코딩을 붙여 구분합니다.
+     */
+    static String computeETag(byte[] bytes, String encoding) {
+        return formatETag(hash(bytes), encoding);
+    }
+
+    static String hash(byte[] bytes) {
+        return Long.toHexString(XxHash64.hash(bytes, 0, bytes.length));
+    }
+
+    static String formatETag(String hash, String encoding) {
+        return encoding == null ? "\"" + hash + "\"" : "\"" + hash + "-" + encoding + "\"";
+    }
+
+    /**
+     * strong ETag {@code "v1"}을 압축한 표현의 ETag {@code "v1-gzip"}으로 바꿉니다.
+     */
+    static String withEncoding(String etag, String encoding) {
+        if (etag.length() < 2 || !etag.endsWith("\"") || etag.endsWith("-" + encoding + "\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+    }
+
+    /**
+     * If-None-Match 비교 (weak comparison, RFC 9110 13.1.2)
+     */
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String trimmed = ifNoneMatch.trim();
+        if (trimmed.equals("*")) {
+            return true;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : trimmed.split(",")) {
+            if (stripWeak(candidate.trim()).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 핸들러가 지정한 ETag를 body를 직렬화하기 전에 비교합니다. 응답을 압축할지는 body 크기를 알아야 정해지므로,
+     * 압축한 표현의 ETag({@code "v1-gzip"}, {@code "v1-deflate"})도 일치하는 것으로 봅니다.
+     */
+    static boolean handlerETagMatches(String ifNoneMatch, String etag) {
+        if (etagMatches(ifNoneMatch, etag)) {
+            return true;
+        }
+        return etag != null && !etag.startsWith("W/")
+                && (etagMatches(ifNoneMatch, withEncoding(etag, GZIP)) || etagMatches(ifNoneMatch, withEncoding(etag, DEFLATE)));
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean isSafeMethod(HttpServletRequest req) {
+        String method = req.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * Accept-Encoding에서 사용할 인코딩을 고릅니다. q 값이 높은 쪽, 같으면 gzip을 선택합니다.
+     *
+     * @return gzip, deflate 또는 압축하지 않으면 null
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            double q = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzip = Math.max(gzip, q);
+                case DEFLATE -> deflate = Math.max(deflate, q);
+                case "*" -> any = q;
+                default -> {
+                }
+            }
+        }
+        if (gzip < 0) {
+            gzip = any;
+        }
+        if (deflate < 0) {
+            deflate = any;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? GZIP : DEFLATE;
+    }
+
+    /**
+     * no-store, private가 아니고 max-age, public 또는 immutable이 지정된 응답
+     */
+    static boolean isCacheable(String cacheControl) {
+        if (cacheControl == null) {
+            return false;
+        }
+        String value = cacheControl.toLowerCase();
+        if (value.contains("no-store") || value.contains("private")) {
+            return false;
+        }
+        return value.contains("max-age") || value.contains("public") || value.contains("immutable");
+    }
+
+    private byte[] compressCached(CachedResponse cached, String encoding) {
+        byte[] compressed = cached.getCompressed(encoding);
+        if (compressed == null) {
+            compressed = compress(cached.getBody(), encoding);
+            cached.setCompressed(encoding, compressed);
+        }
+        return compressed;
+    }
+
+    /**
+     * 여러 endpoint가 같은 cache를 쓰므로, hash와 길이가 같아도 압축 전 body가 같은지 확인한 뒤에만 사용합니다.
+     * (xxHash64는 의도적으로 충돌시킬 수 있어 hash만으로는 다른 응답의 압축 결과를 보낼 수 있음)
+     *
+     * @param hash body의 xxHash64
+     */
+    byte[] compressCached(byte[] bytes, String encoding, long hash) {
+        TinyLfuCache<CacheKey, CompressedBody> cache = compressedCache;
+        if (cache == null) {
+            return compress(bytes, encoding);
+        }
+        CacheKey key = new CacheKey(encoding, hash, bytes.length);
+        CompressedBody entry = cache.getIfPresent(key);
+        if (entry != null && Arrays.equals(entry.body, bytes)) {
+            return entry.compressed;
+        }
+        byte[] compressed = compress(bytes, encoding);
+        cache.put(key, new CompressedBody(bytes, compressed));
+        return compressed;
+    }
+
+    /**
+     * gzip(RFC 1952) 또는 deflate(zlib, RFC 1950) 형식으로 압축합니다.
+     */
+    byte[] compress(byte[] input, String encoding) {
+        boolean gzip = GZIP.equals(encoding);
+        ArrayBlockingQueue<Deflater> pool = gzip ? gzipDeflaters : zlibDeflaters;
+        Deflater deflater = pool.poll();
+        if (deflater == null) {
+            deflater = new Deflater(compressionLevel, gzip); // gzip은 header를 직접 쓰므로 nowrap
+        }
+
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            int offset = gzip ? GZIP_HEADER.length : 0;
+            byte[] output = new byte[Math.max(64, input.length / 4) + offset];
+            if (gzip) {
+                System.arraycopy(GZIP_HEADER, 0, output, 0, offset);
+            }
+            while (!deflater.finished()) {
+                if (offset == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                offset += deflater.deflate(output, offset, output.length - offset);
+            }
+
+            if (gzip) {
+                if (offset + GZIP_TRAILER_SIZE > output.length) {
+                    output = Arrays.copyOf(output, offset + GZIP_TRAILER_SIZE);
+                }
+                CRC32 crc = new CRC32();
+                crc.update(input);
+                writeIntLE(output, offset, (int) crc.getValue());
+                writeIntLE(output, offset + 4, input.length);
+                offset += GZIP_TRAILER_SIZE;
+            }
+            return Arrays.copyOf(output, offset);
+        } finally {
+            deflater.reset();
+            if (!pool.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    private static void writeIntLE(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * 압축 전 body의 xxHash64, 길이와 인코딩으로 비교하는 cache key. body 자체는 보관하지 않습니다.
+     */
+    private static final class CompressedBody {
+        private final byte[] body;
+        private final byte[] compressed;
+
+        private CompressedBody(byte[] body, byte[] compressed) {
+            this.body = body;
+            this.compressed = compressed;
+        }
+    }
+
+    private static final class CacheKey {
+        private final String encoding;
+        private final long hash;
+        private final int length;
+
+        private CacheKey(String encoding, long hash, int length) {
+            this.encoding = encoding;
+            this.hash = hash;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof CacheKey that)) return false;
+            return hash == that.hash && length == that.length && encoding.equals(that.encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * encoding.hashCode() + Long.hashCode(hash)) + length;
+        }
+    }
+}
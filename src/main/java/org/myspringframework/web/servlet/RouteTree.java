@@ -0,0 +1,187 @@
+package org.myspringframework.web.servlet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HTTP 메서드 하나에 대한 URL 템플릿 radix tree입니다.
+ * 정적 문자열은 공통 prefix 단위로 압축하여 저장하고, {@code {var}}는 '/' 전까지를 소비하는 변수 노드로 저장합니다.
+ * <p>
+ * 탐색은 요청 경로를 한 번 따라 내려가며, 정적 노드를 변수 노드보다 먼저 시도합니다.
+ * 변수 값은 같은 탐색 중에 추출하므로 정규표현식을 사용하지 않고, 정적 경로는 객체를 할당하지 않습니다.
+ */
+final class RouteTree {
+    private final Node root = new Node("");
+    private int maxVariables;
+
+    /**
+     * URL 템플릿(예: /users/{id}/posts)과 핸들러를 등록합니다.
+     */
+    void insert(String template, HandlerMethod handler) {
+        List<String> variableNames = new ArrayList<>();
+        Node node = root;
+        int index = 0;
+        while (index < template.length()) {
+            int open = template.indexOf('{', index);
+            if (open < 0) {
+                node = insertStatic(node, template.substring(index));
+                break;
+            }
+            if (open > index) {
+                node = insertStatic(node, template.substring(index, open));
+            }
+
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed path variable in " + template);
+            }
+            if (close + 1 < template.length() && template.charAt(close + 1) != '/') {
+                throw new IllegalArgumentException("Path variable must be a whole segment: " + template);
+            }
+            variableNames.add(template.substring(open + 1, close));
+            if (node.variableChild == null) {
+                node.variableChild = new Node("");
+            }
+            node = node.variableChild;
+            index = close + 1;
+        }
+
+        if (node.handler != null) {
+            throw new IllegalStateException("Ambiguous mapping: " + template + " is already mapped to " + node.handler);
+        }
+        node.handler = handler;
+        node.variableNames = variableNames.toArray(new String[0]);
+        if (variableNames.isEmpty()) {
+            node.staticMatch = new HandlerMatch(handler, node.variableNames, HandlerMatch.NO_VALUES);
+        }
+        maxVariables = Math.max(maxVariables, variableNames.size());
+    }
+
+    /**
+     * 요청 경로에 맞는 핸들러를 찾습니다.
+     *
+     * @return 일치하는 핸들러가 없으면 null
+     */
+    HandlerMatch match(String path) {
+        return find(root, path, 0, null, 0);
+    }
+
+    /**
+     * 정적 prefix가 이미 일치한 노드에서 나머지 경로를 탐색합니다.
+     */
+    private HandlerMatch find(Node node, String path, int index, String[] values, int depth) {
+        if (index == path.length()) {
+            if (node.handler == null) {
+                return null;
+            }
+            return node.staticMatch != null
+                    ? node.staticMatch
+                    : new HandlerMatch(node.handler, node.variableNames, Arrays.copyOf(values, depth));
+        }
+
+        // 1. 정적 노드 우선
+        Node child = node.child(path.charAt(index));
+        if (child != null && path.startsWith(child.prefix, index)) {
+            HandlerMatch match = find(child, path, index + child.prefix.length(), values, depth);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        // 2. 변수 노드: 다음 '/' 전까지를 값으로 사용
+        if (node.variableChild != null) {
+            int end = path.indexOf('/', index);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > index) {
+                if (values == null) {
+                    values = new String[maxVariables];
+                }
+                values[depth] = path.substring(index, end);
+                return find(node.variableChild, path, end, values, depth + 1);
+            }
+        }
+        return null;
+    }
+
+    private Node insertStatic(Node node, String text) {
+        int index = 0;
+        while (index < text.length()) {
+            Node child = node.child(text.charAt(index));
+            if (child == null) {
+                Node leaf = new Node(text.substring(index));
+                node.addChild(leaf);
+                return leaf;
+            }
+
+            // 공통 prefix 길이
+            int common = 0;
+            int max = Math.min(child.prefix.length(), text.length() - index);
+            while (common < max && child.prefix.charAt(common) == text.charAt(index + common)) {
+                common++;
+            }
+
+            if (common < child.prefix.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            index += common;
+        }
+        return node;
+    }
+
+    /**
+     * child의 prefix를 length 위치에서 나누고, 앞부분을 담은 새 노드를 반환합니다.
+     */
+    private Node split(Node parent, Node child, int length) {
+        Node head = new Node(child.prefix.substring(0, length));
+        parent.replaceChild(child, head);
+        child.prefix = child.prefix.substring(length);
+        head.addChild(child);
+        return head;
+    }
+
+    private static final class Node {
+        private static final Node[] EMPTY = new Node[0];
+
+        private String prefix;
+        private char[] indices = new char[0]; // children의 첫 글자
+        private Node[] children = EMPTY;
+        private Node variableChild;
+
+        private HandlerMethod handler;
+        private String[] variableNames;
+        private HandlerMatch staticMatch;
+
+        private Node(String prefix) {
+            this.prefix = prefix;
+        }
+
+        private Node child(char c) {
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(Node child) {
+            indices = Arrays.copyOf(indices, indices.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            indices[indices.length - 1] = child.prefix.charAt(0);
+            children[children.length - 1] = child;
+        }
+
+        private void replaceChild(Node oldChild, Node newChild) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == oldChild) {
+                    children[i] = newChild;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.myspringframework.web.servlet;
+
+/**
+ * {@link ScalarConverters}의 기본 변환기가 값을 변환하지 못했을 때 발생합니다.
+ * <p>
+ * 잘못된 요청 값은 한꺼번에 대량으로 들어올 수 있으므로 stack trace를 만들지 않습니다.
+ */
+public class ScalarConversionException extends IllegalArgumentException {
+    public ScalarConversionException(String type, String value) {
+        super("Invalid " + type + " value: " + value);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,13 @@
+package org.myspringframework.web.servlet;
+
+/**
+ * 요청 값 문자열(path variable, query parameter) 하나를 매개변수 타입으로 변환합니다.
+ */
+@FunctionalInterface
+public interface ScalarConverter<T> {
+    /**
+     * @param value 해석(percent-decoding)이 끝난 값 (null 아님)
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    T convert(String value);
+}
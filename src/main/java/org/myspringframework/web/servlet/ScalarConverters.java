@@ -0,0 +1,207 @@
+package org.myspringframework.web.servlet;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 타입별 {@link ScalarConverter} 목록입니다. 핸들러 등록 시점에 매개변수마다 한 번 조회하여 resolver에 보관합니다.
+ * <p>
+ * 기본으로 primitive와 wrapper, String, BigDecimal, BigInteger, UUID, enum, java.time 타입(ISO-8601)을 지원합니다.
+ * 값은 JSON을 거치지 않고 문자열에서 바로 변환하며, 앞뒤 공백은 허용하지 않습니다.
+ * <p>
+ * 잘못된 값은 JDK parser를 호출하기 전에 형식을 확인해 stack trace 없는 {@link ScalarConversionException}으로 거부합니다.
+ * (JDK parser가 던지는 예외는 만들 때마다 stack trace를 채우므로, 잘못된 값이 대량으로 들어오면 비용이 큽니다.)
+ * 형식은 맞지만 범위를 벗어난 날짜(2월 30일 등)는 JDK parser가 거부하므로 그 비용이 남습니다.
+ */
+public class ScalarConverters {
+    private static final Predicate<String> INTEGER = Pattern.compile("[+-]?[0-9]+").asMatchPredicate();
+    private static final Predicate<String> DECIMAL =
+            Pattern.compile("[+-]?([0-9]+\\.?[0-9]*|\\.[0-9]+)([eE][+-]?[0-9]+)?").asMatchPredicate();
+    // Double.valueOf가 받는 형식 (10진수, NaN, Infinity, 16진수)
+    private static final Predicate<String> FLOATING_POINT = Pattern.compile("[+-]?(NaN|Infinity"
+            + "|([0-9]+\\.?[0-9]*|\\.[0-9]+)([eE][+-]?[0-9]+)?[fFdD]?"
+            + "|0[xX][0-9a-fA-F]*\\.?[0-9a-fA-F]*[pP][+-]?[0-9]+[fFdD]?)").asMatchPredicate();
+    private static final Predicate<String> UUID_SYNTAX =
+            Pattern.compile("[0-9a-fA-F]{1,16}(-[0-9a-fA-F]{1,16}){4}").asMatchPredicate();
+    // Duration.parse의 형식
+    private static final Predicate<String> DURATION = Pattern.compile(
+            "[-+]?P(?:[-+]?[0-9]+D)?(T(?:[-+]?[0-9]+H)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+(?:[.,][0-9]{0,9})?S)?)?",
+            Pattern.CASE_INSENSITIVE).asMatchPredicate();
+
+    private final Map<Class<?>, ScalarConverter<?>> converters = new ConcurrentHashMap<>();
+
+    public ScalarConverters() {
+        register(String.class, value -> value);
+        register(boolean.class, ScalarConverters::parseBoolean);
+        register(Boolean.class, ScalarConverters::parseBoolean);
+        register(char.class, ScalarConverters::parseChar);
+        register(Character.class, ScalarConverters::parseChar);
+        ScalarConverter<Byte> byteConverter = value -> (byte) parseLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
+        register(byte.class, byteConverter);
+        register(Byte.class, byteConverter);
+        ScalarConverter<Short> shortConverter = value -> (short) parseLong(value, Short.MIN_VALUE, Short.MAX_VALUE, "short");
+        register(short.class, shortConverter);
+        register(Short.class, shortConverter);
+        ScalarConverter<Integer> intConverter = value -> (int) parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+        register(int.class, intConverter);
+        register(Integer.class, intConverter);
+        ScalarConverter<Long> longConverter = value -> parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+        register(long.class, longConverter);
+        register(Long.class, longConverter);
+        ScalarConverter<Float> floatConverter = checked(FLOATING_POINT, "float", Float::valueOf);
+        register(float.class, floatConverter);
+        register(Float.class, floatConverter);
+        ScalarConverter<Double> doubleConverter = checked(FLOATING_POINT, "double", Double::valueOf);
+        register(double.class, doubleConverter);
+        register(Double.class, doubleConverter);
+        register(BigDecimal.class, checked(DECIMAL, "BigDecimal", BigDecimal::new));
+        register(BigInteger.class, checked(INTEGER, "BigInteger", BigInteger::new));
+        register(UUID.class, checked(UUID_SYNTAX, "UUID", UUID::fromString));
+        register(LocalDate.class, checked(parsable(DateTimeFormatter.ISO_LOCAL_DATE), "LocalDate", LocalDate::parse));
+        register(LocalTime.class, checked(parsable(DateTimeFormatter.ISO_LOCAL_TIME), "LocalTime", LocalTime::parse));
+        register(LocalDateTime.class,
+                checked(parsable(DateTimeFormatter.ISO_LOCAL_DATE_TIME), "LocalDateTime", LocalDateTime::parse));
+        register(Instant.class, checked(parsable(DateTimeFormatter.ISO_INSTANT), "Instant", Instant::parse));
+        register(OffsetDateTime.class,
+                checked(parsable(DateTimeFormatter.ISO_OFFSET_DATE_TIME), "OffsetDateTime", OffsetDateTime::parse));
+        register(ZonedDateTime.class,
+                checked(parsable(DateTimeFormatter.ISO_ZONED_DATE_TIME), "ZonedDateTime", ZonedDateTime::parse));
+        register(Duration.class, checked(DURATION, "Duration", Duration::parse));
+    }
+
+    /**
+     * 타입의 변환기를 등록합니다. 같은 타입의 기존 변환기를 대체합니다.
+     */
+    public <T> void register(Class<T> type, ScalarConverter<? extends T> converter) {
+        converters.put(type, converter);
+    }
+
+    /**
+     * @return 타입의 변환기, 지원하지 않는 타입이면 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ScalarConverter<?> find(Class<?> type) {
+        ScalarConverter<?> converter = converters.get(type);
+        if (converter == null && type.isEnum()) {
+            converter = enumConverter((Class) type);
+        }
+        return converter;
+    }
+
+    public boolean supports(Class<?> type) {
+        return find(type) != null;
+    }
+
+    /**
+     * 상수 이름과 정확히 일치하는 값을 우선하고, 없으면 대소문자를 무시하고 찾습니다.
+     */
+    private static <E extends Enum<E>> ScalarConverter<E> enumConverter(Class<E> type) {
+        Map<String, E> constants = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            constants.put(constant.name(), constant);
+            constants.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+        }
+        return value -> {
+            E constant = constants.get(value);
+            if (constant == null) {
+                constant = constants.get(value.toUpperCase(Locale.ROOT));
+            }
+            if (constant == null) {
+                throw new ScalarConversionException(type.getSimpleName(), value);
+            }
+            return constant;
+        };
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true") || value.equals("1") || value.equalsIgnoreCase("on") || value.equalsIgnoreCase("yes")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0") || value.equalsIgnoreCase("off") || value.equalsIgnoreCase("no")) {
+            return Boolean.FALSE;
+        }
+        throw new ScalarConversionException("boolean", value);
+    }
+
+    private static Character parseChar(String value) {
+        if (value.length() != 1) {
+            throw new ScalarConversionException("char", value);
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * ASCII 10진수를 예외 없이 해석합니다. 범위 검사는 {@link Long#parseLong}과 같은 방식으로 음수 쪽에서 합니다.
+     */
+    private static long parseLong(String value, long min, long max, String type) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i = 1;
+        }
+        if (i == length) {
+            throw new ScalarConversionException(type, value);
+        }
+        long limit = negative ? min : -max;
+        long multmin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                throw new ScalarConversionException(type, value);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new ScalarConversionException(type, value);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 형식이 맞는 값만 parser로 변환합니다. 형식 검사를 통과하고도 parser가 거부한 값(범위 초과 등)도 같은 예외로 바꿉니다.
+     */
+    private static <T> ScalarConverter<T> checked(Predicate<String> syntax, String type, ScalarConverter<T> parser) {
+        return value -> {
+            if (!syntax.test(value)) {
+                throw new ScalarConversionException(type, value);
+            }
+            try {
+                return parser.convert(value);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new ScalarConversionException(type, value);
+            }
+        };
+    }
+
+    /**
+     * formatter로 예외 없이 끝까지 읽을 수 있는지 확인합니다. (필드 값의 범위는 확인하지 않음)
+     */
+    private static Predicate<String> parsable(DateTimeFormatter formatter) {
+        return value -> {
+            ParsePosition position = new ParsePosition(0);
+            return formatter.parseUnresolved(value, position) != null
+                    && position.getErrorIndex() < 0 && position.getIndex() == value.length();
+        };
+    }
+}
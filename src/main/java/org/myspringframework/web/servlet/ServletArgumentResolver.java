@@ -0,0 +1,27 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 어노테이션 없는 {@link HttpServletRequest}, {@link HttpServletResponse}, {@link WebRequest} 매개변수
+ */
+public final class ServletArgumentResolver implements ArgumentResolver {
+    private final Class<?> type;
+
+    public ServletArgumentResolver(Class<?> type) {
+        this.type = type;
+    }
+
+    public static boolean supports(Class<?> type) {
+        return type == HttpServletRequest.class || type == HttpServletResponse.class || type == WebRequest.class;
+    }
+
+    @Override
+    public Object resolve(RequestContext context) {
+        if (type == WebRequest.class) {
+            return new WebRequest(context);
+        }
+        return HttpServletResponse.class.isAssignableFrom(type) ? context.getResponse() : context.getRequest();
+    }
+}
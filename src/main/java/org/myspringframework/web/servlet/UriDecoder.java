@@ -0,0 +1,71 @@
+package org.myspringframework.web.servlet;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * URI의 percent-encoding(UTF-8)을 해석합니다.
+ * 인코딩된 문자가 없으면 원본 문자열(또는 그 substring)을 그대로 반환하므로, 대부분의 요청 값은 추가로 할당하지 않습니다.
+ */
+final class UriDecoder {
+    private UriDecoder() {
+    }
+
+    /**
+     * s[start, end)를 해석합니다.
+     *
+     * @param plusAsSpace query string처럼 '+'를 공백으로 해석할지 여부 (path segment에서는 '+'가 그대로 '+'입니다)
+     * @throws IllegalArgumentException if a '%' is not followed by two hex digits
+     */
+    static String decode(String s, int start, int end, boolean plusAsSpace) {
+        if (!needsDecoding(s, start, end, plusAsSpace)) {
+            return start == 0 && end == s.length() ? s : s.substring(start, end);
+        }
+
+        byte[] bytes = new byte[(end - start) * 3]; // 인코딩되지 않은 non-ASCII 문자는 UTF-8로 최대 3 byte (surrogate pair는 2글자에 4 byte)
+        int length = 0;
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '%') {
+                int high = i + 2 < end ? Character.digit(s.charAt(i + 1), 16) : -1;
+                int low = i + 2 < end ? Character.digit(s.charAt(i + 2), 16) : -1;
+                if (high < 0 || low < 0) {
+                    throw new IllegalArgumentException("Invalid percent-encoding at index " + (i - start) + ": "
+                            + s.substring(start, end));
+                }
+                bytes[length++] = (byte) ((high << 4) + low);
+                i += 3;
+            } else if (c == '+' && plusAsSpace) {
+                bytes[length++] = ' ';
+                i++;
+            } else if (c < 0x80) {
+                bytes[length++] = (byte) c;
+                i++;
+            } else {
+                int runEnd = i + 1;
+                while (runEnd < end && s.charAt(runEnd) >= 0x80) {
+                    runEnd++;
+                }
+                byte[] encoded = s.substring(i, runEnd).getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                length += encoded.length;
+                i = runEnd;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    static String decode(String s, boolean plusAsSpace) {
+        return s == null ? null : decode(s, 0, s.length(), plusAsSpace);
+    }
+
+    static boolean needsDecoding(String s, int start, int end, boolean plusAsSpace) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '%' || (c == '+' && plusAsSpace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.myspringframework.web.http.HttpHeaders;
+
+/**
+ * 핸들러에서 조건부 요청을 처리할 때 사용하는 매개변수입니다.
+ * <pre>
+ * &#64;GetMapping("/{id}")
+ * public Article get(@PathVariable("id") Long id, WebRequest request) {
+ *     if (request.checkNotModified(articleService.getVersion(id))) {
+ *         return null; // 304 Not Modified
+ *     }
+ *     return articleService.load(id); // 비싼 작업
+ * }
+ * </pre>
+ */
+public final class WebRequest {
+    private final RequestContext context;
+
+    public WebRequest(RequestContext context) {
+        this.context = context;
+    }
+
+    public HttpServletRequest getRequest() {
+        return context.getRequest();
+    }
+
+    public HttpServletResponse getResponse() {
+        return context.getResponse();
+    }
+
+    public String getHeader(String name) {
+        return context.getRequest().getHeader(name);
+    }
+
+    /**
+     * 응답에 ETag를 설정하고, 요청의 If-None-Match와 일치하는지 확인합니다.
+     * 일치하면 핸들러가 무엇을 반환하든 body 없이 304로 응답합니다.
+     *
+     * @param etag 리소스의 현재 버전. 따옴표가 없으면 strong ETag로 감쌉니다.
+     * @return 클라이언트가 가진 버전이 최신이면 true
+     */
+    public boolean checkNotModified(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        String quoted = headers.getETag();
+        context.getResponse().setHeader(HttpHeaders.ETAG, quoted);
+
+        String method = context.getRequest().getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        if (ResponseWriter.handlerETagMatches(context.getRequest().getHeader(HttpHeaders.IF_NONE_MATCH), quoted)) {
+            context.setNotModified(true);
+        }
+        return context.isNotModified();
+    }
+}
@@ -0,0 +1,96 @@
+package org.myspringframework.web.servlet;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 (seed 0) 구현입니다. 응답 body의 ETag 계산에 사용합니다.
+ * 암호학적 해시가 아니므로 변경 감지 용도로만 사용해야 합니다.
+ */
+final class XxHash64 {
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private XxHash64() {
+    }
+
+    static long hash(byte[] input, int offset, int length) {
+        int end = offset + length;
+        int p = offset;
+        long h;
+
+        if (length >= 32) {
+            long v1 = PRIME1 + PRIME2;
+            long v2 = PRIME2;
+            long v3 = 0;
+            long v4 = -PRIME1;
+            int limit = end - 32;
+            do {
+                v1 = round(v1, readLong(input, p));
+                v2 = round(v2, readLong(input, p + 8));
+                v3 = round(v3, readLong(input, p + 16));
+                v4 = round(v4, readLong(input, p + 24));
+                p += 32;
+            } while (p <= limit);
+
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = mergeRound(h, v1);
+            h = mergeRound(h, v2);
+            h = mergeRound(h, v3);
+            h = mergeRound(h, v4);
+        } else {
+            h = PRIME5;
+        }
+
+        h += length;
+
+        while (p + 8 <= end) {
+            h ^= round(0, readLong(input, p));
+            h = Long.rotateLeft(h, 27) * PRIME1 + PRIME4;
+            p += 8;
+        }
+        if (p + 4 <= end) {
+            h ^= (readInt(input, p) & 0xFFFFFFFFL) * PRIME1;
+            h = Long.rotateLeft(h, 23) * PRIME2 + PRIME3;
+            p += 4;
+        }
+        while (p < end) {
+            h ^= (input[p] & 0xFF) * PRIME5;
+            h = Long.rotateLeft(h, 11) * PRIME1;
+            p++;
+        }
+
+        h ^= h >>> 33;
+        h *= PRIME2;
+        h ^= h >>> 29;
+        h *= PRIME3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME1 + PRIME4;
+    }
+
+    private static long readLong(byte[] b, int i) {
+        return (long) LONG_LE.get(b, i);
+    }
+
+    private static int readInt(byte[] b, int i) {
+        return (int) INT_LE.get(b, i);
+    }
+}
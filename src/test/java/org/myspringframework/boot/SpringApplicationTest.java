@@ -0,0 +1,365 @@
+package org.myspringframework.boot;
+
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.myspringframework.boot.testapp.TestApplication;
+import org.myspringframework.context.ApplicationContext;
+import org.myspringframework.context.InternalBeanRegistrar;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpringApplicationTest {
+    private ApplicationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        TestApplication.DESTROYED.clear();
+        context = new ApplicationContext();
+        new InternalBeanRegistrar().registerBeans(context);
+        context.refresh(TestApplication.class);
+    }
+
+    @Test
+    public void testCreateServerFromProperties() throws Exception {
+        // Given: 파일 설정보다 커맨드라인 인자가 우선
+        Properties file = new Properties();
+        file.setProperty(ServerProperties.PORT, "0");
+        file.setProperty(ServerProperties.IDLE_TIMEOUT, "1234");
+        file.setProperty(ServerProperties.ACCEPTORS, "1");
+        file.setProperty(ServerProperties.SELECTORS, "2");
+        file.setProperty(ServerProperties.THREAD_POOL_MAX, "32");
+        ServerProperties properties = new ServerProperties(file, "--" + ServerProperties.IDLE_TIMEOUT + "=5000");
+
+        // When
+        Server server = SpringApplication.createServer(context, properties);
+
+        // Then
+        ServerConnector connector = (ServerConnector) server.getConnectors()[0];
+        assertEquals(5000, connector.getIdleTimeout(), "Command line argument should override the file.");
+        assertEquals(1, connector.getAcceptors(), "Acceptors should come from the file.");
+        assertEquals(2, connector.getSelectorManager().getSelectorCount(), "Selectors should come from the file.");
+        assertEquals(32, ((QueuedThreadPool) server.getThreadPool()).getMaxThreads(), "Thread pool size should be applied.");
+        assertNull(servletContextHandler(server).getSessionHandler(), "Sessions should be disabled by default.");
+
+        server.start();
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort() + "/hello/kim")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), "Created server should serve the controllers.");
+            assertEquals("\"hello kim\"", response.body(), "Response body should be the handler result.");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testMultipleConnectorsRequireReusePort() throws Exception {
+        // Given: 비어 있는 고정 포트 (0이면 connector마다 다른 포트를 받음)
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        ServerProperties properties = new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=" + port, "--" + ServerProperties.CONNECTORS + "=2");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SpringApplication.createServer(context, properties),
+                "Several connectors on one port should require SO_REUSEPORT.");
+
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=" + port, "--" + ServerProperties.CONNECTORS + "=2",
+                "--" + ServerProperties.REUSE_PORT));
+        server.start();
+        try {
+            assertEquals(2, server.getConnectors().length, "Two connectors should be created.");
+            for (int i = 0; i < 2; i++) {
+                ServerConnector connector = (ServerConnector) server.getConnectors()[i];
+                assertTrue(connector.isReusePort(), "SO_REUSEPORT should be set.");
+                assertEquals(port, connector.getLocalPort(), "Each connector should listen on the same port.");
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testInvalidBooleanPropertyIsRejected() {
+        // Given
+        ServerProperties properties = new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0", "--" + ServerProperties.REUSE_PORT + "=ture");
+
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SpringApplication.createServer(context, properties), "Typo should not be read as false.");
+
+        // Then
+        assertEquals("Invalid value for " + ServerProperties.REUSE_PORT + ": ture", e.getMessage());
+        assertTrue(new ServerProperties(new Properties(), "--" + ServerProperties.REUSE_PORT + "=TRUE").isReusePort(),
+                "Case should be ignored.");
+    }
+
+    @Test
+    public void testSessionsCanBeEnabled() {
+        // When
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0", "--" + ServerProperties.SESSIONS_ENABLED + "=true"));
+
+        // Then
+        assertNotNull(servletContextHandler(server).getSessionHandler(), "Session handler should be created.");
+    }
+
+    @Test
+    public void testShutdownDrainsInFlightRequests() throws Exception {
+        // Given: 처리 중인 요청이 있는 서버
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0", "--" + ServerProperties.SHUTDOWN_TIMEOUT + "=5000"));
+        server.start();
+        StatisticsHandler statistics = (StatisticsHandler) server.getHandler();
+        URI base = URI.create("http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort());
+        HttpClient client = HttpClient.newHttpClient();
+        CompletableFuture<HttpResponse<String>> inFlight = client.sendAsync(
+                HttpRequest.newBuilder(base.resolve("/hello/slow/500")).build(), HttpResponse.BodyHandlers.ofString());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statistics.getRequestsActive() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, statistics.getRequestsActive(), "Request should be in flight before shutdown.");
+
+        // When
+        SpringApplication.shutdown(server, context);
+
+        // Then
+        HttpResponse<String> response = inFlight.get(1, TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode(), "In-flight request should complete during shutdown.");
+        assertEquals("\"done\"", response.body(), "In-flight request should get the full response.");
+        assertTrue(server.isStopped(), "Server should be stopped after draining.");
+        assertThrows(IOException.class, () -> HttpClient.newHttpClient().send(
+                        HttpRequest.newBuilder(base.resolve("/hello/kim")).build(), HttpResponse.BodyHandlers.ofString()),
+                "New connections should be refused after shutdown.");
+        assertEquals(List.of("GreetingService", "GreetingRepository"), TestApplication.DESTROYED,
+                "@PreDestroy should run on dependents before their dependencies.");
+        assertTrue(context.isClosed(), "Context should be closed.");
+    }
+
+    @Test
+    public void testUnixDomainSocketConnector(@TempDir Path dir) throws Exception {
+        // Given: TCP 포트 없이 Unix domain socket만 열고, 이전 프로세스가 남긴 socket 파일이 있음
+        Path socket = dir.resolve("app.sock");
+        try (ServerSocketChannel stale = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            stale.bind(UnixDomainSocketAddress.of(socket));
+        }
+        assertTrue(Files.exists(socket), "Closed channel should leave the socket file behind.");
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=-1", "--" + ServerProperties.UNIX_SOCKET_PATH + "=" + socket));
+        assertEquals(1, server.getConnectors().length, "Only the Unix domain socket connector should be created.");
+        assertInstanceOf(UnixDomainServerConnector.class, server.getConnectors()[0]);
+
+        server.start();
+        try {
+            // When
+            String response;
+            try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                channel.write(StandardCharsets.US_ASCII.encode(
+                        "GET /hello/kim HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"));
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ByteBuffer buffer = ByteBuffer.allocate(1024);
+                while (channel.read(buffer) >= 0) {
+                    out.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                response = out.toString(StandardCharsets.UTF_8);
+            }
+
+            // Then
+            assertTrue(response.startsWith("HTTP/1.1 200"), "Request over the socket should succeed: " + response);
+            assertTrue(response.endsWith("\"hello kim\""), "Response body should be the handler result: " + response);
+        } finally {
+            server.stop();
+        }
+        assertFalse(Files.exists(socket), "Socket file should be removed on stop.");
+    }
+
+    @Test
+    public void testTcpCanOnlyBeDisabledWithUnixDomainSocket() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SpringApplication.createServer(context,
+                        new ServerProperties(new Properties(), "--" + ServerProperties.PORT + "=-1")),
+                "Server without any connector should be rejected.");
+    }
+
+    @Test
+    public void testH2cUpgrade() throws Exception {
+        // Given
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0", "--" + ServerProperties.PROTOCOLS + "=http/1.1,h2c"));
+        server.start();
+        try {
+            URI base = URI.create("http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort());
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+            // When: 첫 요청은 HTTP/1.1 Upgrade: h2c, 다음 요청은 upgrade된 연결
+            HttpResponse<String> upgraded = client.send(HttpRequest.newBuilder(base.resolve("/hello/kim")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> next = client.send(HttpRequest.newBuilder(base.resolve("/hello/lee")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> http11 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()
+                    .send(HttpRequest.newBuilder(base.resolve("/hello/park")).build(), HttpResponse.BodyHandlers.ofString());
+
+            // Then
+            assertEquals(HttpClient.Version.HTTP_2, upgraded.version(), "Upgrade: h2c should switch to HTTP/2.");
+            assertEquals("\"hello kim\"", upgraded.body(), "Upgraded request should be served by the handler.");
+            assertEquals(HttpClient.Version.HTTP_2, next.version());
+            assertEquals("\"hello lee\"", next.body());
+            assertEquals(HttpClient.Version.HTTP_1_1, http11.version(), "HTTP/1.1 should still be served.");
+            assertEquals("\"hello park\"", http11.body());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testH2cPriorKnowledgeSettings() throws Exception {
+        // Given: h2c만 받는 connector
+        Server server = SpringApplication.createServer(context, new ServerProperties(new Properties(),
+                "--" + ServerProperties.PORT + "=0", "--" + ServerProperties.PROTOCOLS + "=h2c",
+                "--" + ServerProperties.HTTP2_MAX_CONCURRENT_STREAMS + "=7",
+                "--" + ServerProperties.HTTP2_INITIAL_STREAM_WINDOW + "=100000",
+                "--" + ServerProperties.HTTP2_INITIAL_SESSION_WINDOW + "=2000000"));
+        ServerConnector connector = (ServerConnector) server.getConnectors()[0];
+        HTTP2CServerConnectionFactory h2c = connector.getConnectionFactory(HTTP2CServerConnectionFactory.class);
+        assertNotNull(h2c, "h2c connection factory should be created.");
+        assertEquals("h2c", connector.getDefaultProtocol(), "h2c should be the only protocol.");
+        assertEquals(7, h2c.getMaxConcurrentStreams());
+        assertEquals(100000, h2c.getInitialStreamRecvWindow());
+        assertEquals(2000000, h2c.getInitialSessionRecvWindow());
+        server.start();
+
+        try (Socket socket = new Socket("localhost", connector.getLocalPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // When: prior knowledge로 연결하고 GET /hello/kim (HPACK: :method GET, :scheme http, :path, :authority)
+            out.write("PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            writeFrame(out, 0x4, 0, 0, new byte[0]); // SETTINGS
+            ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            headers.write(new byte[]{(byte) 0x82, (byte) 0x86});
+            writeLiteralHeader(headers, 4, "/hello/kim");
+            writeLiteralHeader(headers, 1, "localhost");
+            writeFrame(out, 0x1, 0x5, 1, headers.toByteArray()); // HEADERS, END_STREAM | END_HEADERS
+            out.flush();
+
+            Map<Integer, Long> settings = null;
+            long sessionWindowIncrement = -1;
+            byte[] status = null;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            boolean ended = false;
+            while (!ended) {
+                int length = (in.readUnsignedShort() << 8) | in.readUnsignedByte();
+                int type = in.readUnsignedByte();
+                int flags = in.readUnsignedByte();
+                int stream = in.readInt() & 0x7fffffff;
+                byte[] payload = in.readNBytes(length);
+                if (type == 0x4 && (flags & 0x1) == 0) {
+                    settings = new HashMap<>();
+                    DataInputStream values = new DataInputStream(new ByteArrayInputStream(payload));
+                    for (int i = 0; i < length / 6; i++) {
+                        settings.put(values.readUnsignedShort(), values.readInt() & 0xffffffffL);
+                    }
+                } else if (type == 0x8 && stream == 0) {
+                    sessionWindowIncrement = ((payload[0] & 0x7fL) << 24) | ((payload[1] & 0xffL) << 16)
+                            | ((payload[2] & 0xffL) << 8) | (payload[3] & 0xffL);
+                } else if (type == 0x1 && stream == 1) {
+                    status = payload;
+                    ended = (flags & 0x1) != 0;
+                } else if (type == 0x0 && stream == 1) {
+                    body.write(payload);
+                    ended = (flags & 0x1) != 0;
+                }
+            }
+
+            // Then
+            assertNotNull(settings, "Server should send its SETTINGS first.");
+            assertEquals(7L, settings.get(0x3), "SETTINGS_MAX_CONCURRENT_STREAMS should be applied.");
+            assertEquals(100000L, settings.get(0x4), "SETTINGS_INITIAL_WINDOW_SIZE should be the stream window.");
+            assertEquals(2000000L - 65535, sessionWindowIncrement, "Session window should be enlarged by WINDOW_UPDATE.");
+            assertNotNull(status, "Response HEADERS should be received.");
+            assertEquals((byte) 0x88, status[skipTableSizeUpdate(status)], ":status 200 should be the first response header.");
+            assertEquals("\"hello kim\"", body.toString(StandardCharsets.UTF_8), "Handler should serve the h2c stream.");
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void writeFrame(OutputStream out, int type, int flags, int stream, byte[] payload) throws IOException {
+        out.write(new byte[]{(byte) (payload.length >>> 16), (byte) (payload.length >>> 8), (byte) payload.length,
+                (byte) type, (byte) flags,
+                (byte) (stream >>> 24), (byte) (stream >>> 16), (byte) (stream >>> 8), (byte) stream});
+        out.write(payload);
+    }
+
+    /**
+     * header block 앞의 HPACK dynamic table size update(RFC 7541 6.3)를 건너뛴 위치
+     */
+    private static int skipTableSizeUpdate(byte[] block) {
+        int i = 0;
+        while (i < block.length && (block[i] & 0xe0) == 0x20) {
+            if ((block[i++] & 0x1f) == 0x1f) { // 5-bit prefix를 넘는 값은 다음 byte들에 이어짐
+                while ((block[i] & 0x80) != 0) {
+                    i++;
+                }
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * HPACK literal header field without indexing, 이름은 static table index (RFC 7541 6.2.2)
+     */
+    private static void writeLiteralHeader(ByteArrayOutputStream out, int nameIndex, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        out.write(nameIndex);
+        out.write(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static ServletContextHandler servletContextHandler(Server server) {
+        return (ServletContextHandler) ((StatisticsHandler) server.getHandler()).getHandler();
+    }
+}
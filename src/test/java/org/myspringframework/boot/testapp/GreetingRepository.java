@@ -0,0 +1,16 @@
+package org.myspringframework.boot.testapp;
+
+import org.myspringframework.annotations.PreDestroy;
+import org.myspringframework.annotations.Repository;
+
+@Repository
+public class GreetingRepository {
+    public String greeting() {
+        return "hello";
+    }
+
+    @PreDestroy
+    public void destroy() {
+        TestApplication.DESTROYED.add("GreetingRepository");
+    }
+}
@@ -0,0 +1,20 @@
+package org.myspringframework.boot.testapp;
+
+import org.myspringframework.annotations.Autowired;
+import org.myspringframework.annotations.PreDestroy;
+import org.myspringframework.annotations.Service;
+
+@Service
+public class GreetingService {
+    @Autowired
+    private GreetingRepository greetingRepository;
+
+    public String greet(String name) {
+        return greetingRepository.greeting() + " " + name;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        TestApplication.DESTROYED.add("GreetingService");
+    }
+}
@@ -0,0 +1,23 @@
+package org.myspringframework.boot.testapp;
+
+import org.myspringframework.annotations.Autowired;
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.bind.annotation.PathVariable;
+
+@RestController
+public class HelloController {
+    @Autowired
+    private GreetingService greetingService;
+
+    @GetMapping("/hello/{name}")
+    public String hello(@PathVariable("name") String name) {
+        return greetingService.greet(name);
+    }
+
+    @GetMapping("/hello/slow/{millis}")
+    public String slow(@PathVariable("millis") long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return "done";
+    }
+}
@@ -0,0 +1,14 @@
+package org.myspringframework.boot.testapp;
+
+import org.myspringframework.annotations.SpringBootApplication;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@SpringBootApplication
+public class TestApplication {
+    /**
+     * {@code @PreDestroy}가 호출된 빈 이름(호출 순서)
+     */
+    public static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+}
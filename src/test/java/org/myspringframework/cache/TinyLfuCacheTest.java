@@ -0,0 +1,103 @@
+package org.myspringframework.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    public void testPutAndGet() {
+        // Given
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(1_000, 100, (key, value) -> value.length());
+
+        // When
+        cache.put("a", "apple");
+        cache.put("a", "avocado");
+
+        // Then
+        assertEquals("avocado", cache.getIfPresent("a"), "Put should replace the existing value.");
+        assertNull(cache.getIfPresent("b"), "Missing key should return null.");
+        assertEquals(1, cache.size(), "Replacing a value should not add an entry.");
+        assertEquals(7, cache.weightedSize(), "Weight should follow the replaced value.");
+    }
+
+    @Test
+    public void testWeightLimit() {
+        // Given
+        TinyLfuCache<Integer, byte[]> cache = new TinyLfuCache<>(10_000, 1_000, (key, value) -> value.length);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, new byte[500]);
+        }
+
+        // Then
+        assertTrue(cache.weightedSize() <= 10_000, "Total weight should not exceed the maximum: " + cache.weightedSize());
+        assertTrue(cache.size() <= 20, "Entries should be evicted by weight: " + cache.size());
+    }
+
+    @Test
+    public void testEntryLimit() {
+        // Given
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(Long.MAX_VALUE, 100, (key, value) -> 1);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i);
+        }
+
+        // Then
+        assertEquals(100, cache.size(), "Entry count should not exceed the maximum.");
+    }
+
+    @Test
+    public void testHotEntriesSurviveScan() {
+        // Given
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(Long.MAX_VALUE, 100, (key, value) -> 1);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.getIfPresent(i);
+            }
+        }
+
+        // When: 한 번씩만 접근하는 key를 대량으로 넣음
+        for (int i = 1_000; i < 11_000; i++) {
+            cache.put(i, i);
+        }
+
+        // Then
+        int hits = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.getIfPresent(i) != null) {
+                hits++;
+            }
+        }
+        assertTrue(hits >= 45, "Frequently used entries should not be evicted by a scan, hits: " + hits);
+    }
+
+    @Test
+    public void testInvalidate() {
+        // Given
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(1_000, 100, (key, value) -> value.length());
+        cache.put("a", "apple");
+        cache.put("b", "banana");
+
+        // When
+        cache.invalidate("a");
+
+        // Then
+        assertNull(cache.getIfPresent("a"), "Invalidated entry should be removed.");
+        assertEquals(6, cache.weightedSize(), "Invalidated weight should be released.");
+
+        // When
+        cache.invalidateAll();
+
+        // Then
+        assertEquals(0, cache.size(), "All entries should be removed.");
+        assertEquals(0, cache.weightedSize(), "All weight should be released.");
+    }
+}
@@ -0,0 +1,91 @@
+package org.myspringframework.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedJsonReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReadSameValuesAsJsonParser() throws Exception {
+        // Arrange
+        String json = "{"
+                + "\"name\": \"Alice\","
+                + "\"age\": 25,"
+                + "\"big\": 1234567890123,"
+                + "\"ratio\": 0.5,"
+                + "\"active\": true,"
+                + "\"nothing\": null,"
+                + "\"tags\": [\"a\", \"b\", {\"nested\": []}]"
+                + "}";
+
+        // Act
+        Object result;
+        try (MappedJsonReader reader = new MappedJsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)))) {
+            result = reader.readValue();
+        }
+
+        // Assert
+        assertEquals(new JsonParser().parse(json), result, "Mapped reader should produce the same values as JsonParser.");
+    }
+
+    @Test
+    public void testReadUtf8AndEscapes() throws Exception {
+        // Arrange
+        String json = "\"한글 \\\"quoted\\\" \\u0041 😀\"";
+
+        // Act
+        Object result;
+        try (MappedJsonReader reader = new MappedJsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)))) {
+            result = reader.readValue();
+        }
+
+        // Assert
+        assertEquals("한글 \"quoted\" A 😀", result, "Multi-byte characters and escapes should be decoded.");
+    }
+
+    @Test
+    public void testReadAcrossWindowBoundaries() throws Exception {
+        // Arrange
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) json.append(", ");
+            json.append("{\"id\": ").append(i).append(", \"name\": \"이름").append(i).append("\"}");
+        }
+        json.append("]");
+        Path file = tempDir.resolve("windows.json");
+        Files.writeString(file, json);
+
+        // Act: 작은 window로 매핑하여 값과 multi-byte 문자가 경계에 걸치도록 합니다.
+        Object result;
+        try (MappedJsonReader reader = new MappedJsonReader(file, 7)) {
+            result = reader.readValue();
+        }
+
+        // Assert
+        assertEquals(new JsonParser().parse(json.toString()), result, "Values spanning windows should be parsed correctly.");
+    }
+
+    @Test
+    public void testInvalidJson() {
+        // Arrange
+        String json = "[1, 2, 3";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            try (MappedJsonReader reader = new MappedJsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)))) {
+                reader.readValue();
+            }
+        }, "Unclosed array should throw IllegalArgumentException.");
+    }
+}
@@ -0,0 +1,98 @@
+package org.myspringframework.mapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NonBlockingJsonParserTest {
+
+    private NonBlockingJsonParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new NonBlockingJsonParser();
+    }
+
+    @Test
+    public void testByteByByteProducesSameValuesAsJsonParser() {
+        // Arrange
+        String json = "{"
+                + "\"users\": ["
+                + "    {\"id\": 1, \"name\": \"사용자\", \"roles\": [\"admin\", \"user\"]},"
+                + "    {\"id\": 1234567890123, \"ratio\": 0.25, \"active\": false, \"manager\": null}"
+                + "],"
+                + "\"escaped\": \"Line1\\nLine2 \\\"quoted\\\" \\u0041 😀\","
+                + "\"empty\": {}, \"none\": []"
+                + "}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        // Act: 1 바이트씩 나눠서 먹입니다.
+        NonBlockingJsonParser.Status status = NonBlockingJsonParser.Status.NEED_MORE_INPUT;
+        for (int i = 0; i < bytes.length; i++) {
+            status = parser.feed(ByteBuffer.wrap(bytes, i, 1));
+            if (i < bytes.length - 1) {
+                assertEquals(NonBlockingJsonParser.Status.NEED_MORE_INPUT, status, "Partial input should need more input.");
+            }
+        }
+
+        // Assert
+        assertEquals(NonBlockingJsonParser.Status.VALUE_COMPLETE, status, "Value should complete with the closing brace.");
+        assertEquals(new JsonParser().parse(json), parser.getValue(), "Parsed value should match JsonParser.");
+    }
+
+    @Test
+    public void testTopLevelLiteralNeedsEndOfInput() {
+        // Arrange
+        ByteBuffer input = ByteBuffer.wrap("12345".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        NonBlockingJsonParser.Status fed = parser.feed(input);
+        NonBlockingJsonParser.Status ended = parser.endOfInput();
+
+        // Assert
+        assertEquals(NonBlockingJsonParser.Status.NEED_MORE_INPUT, fed, "A number may continue in the next chunk.");
+        assertEquals(NonBlockingJsonParser.Status.VALUE_COMPLETE, ended, "End of input should complete the number.");
+        assertEquals(12345, parser.getValue(), "Parsed number should be 12345.");
+    }
+
+    @Test
+    public void testMultipleValuesInOneChunk() {
+        // Arrange
+        ByteBuffer input = ByteBuffer.wrap("{\"a\": 1}\n[true]\n".getBytes(StandardCharsets.UTF_8));
+        List<Object> values = new ArrayList<>();
+
+        // Act
+        while (parser.feed(input) == NonBlockingJsonParser.Status.VALUE_COMPLETE) {
+            values.add(parser.getValue());
+        }
+
+        // Assert
+        assertEquals(List.of(Map.of("a", 1), List.of(true)), values, "Each top-level value should be returned in order.");
+        assertEquals(NonBlockingJsonParser.Status.END_OF_INPUT, parser.endOfInput(), "No value should be left.");
+    }
+
+    @Test
+    public void testInvalidJson() {
+        // Arrange
+        ByteBuffer input = ByteBuffer.wrap("{\"key\" 1}".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> parser.feed(input),
+                "Missing colon should throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testUnexpectedEndOfInput() {
+        // Arrange
+        parser.feed(ByteBuffer.wrap("[1, 2".getBytes(StandardCharsets.UTF_8)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> parser.endOfInput(),
+                "Unclosed array should throw IllegalArgumentException.");
+    }
+}
@@ -2,10 +2,15 @@ package org.myspringframework.mapper;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.myspringframework.mapper.model.Address;
 import org.myspringframework.mapper.model.Company;
 import org.myspringframework.mapper.model.Person;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -133,4 +138,146 @@ public class ObjectMapperTest {
         assertNull(deserializedCompany.getEmployees(), "Employees list should be null.");
         assertNull(deserializedCompany.getOffices(), "Offices map should be null.");
     }
+
+    @Test
+    public void testReadValueFromMappedFile(@TempDir Path tempDir) throws Exception {
+        // When
+        Address address = new Address("123 Main St", "Springfield", "12345");
+        Person person = new Person("Jane Doe", 28, true, address, Arrays.asList("Java", "Spring", "SQL"));
+        Company company = new Company("Tech Solutions Inc.", Arrays.asList(person), Map.of("Headquarters", address));
+        Path file = tempDir.resolve("company.json");
+        Files.writeString(file, objectMapper.writeValueAsString(company));
+        objectMapper.setMappedReadThreshold(0);
+
+        // Given
+        Company deserializedCompany = objectMapper.readValue(file, Company.class);
+
+        // Then
+        assertEquals(company, deserializedCompany, "Company read from a mapped file should be equal to the original.");
+    }
+
+    @Test
+    public void testReadValuesFromFile(@TempDir Path tempDir) throws Exception {
+        // When
+        Path arrayFile = tempDir.resolve("addresses.json");
+        Files.writeString(arrayFile, "[{\"street\": \"A\"}, {\"street\": \"B\"}]");
+        Path ndjsonFile = tempDir.resolve("addresses.ndjson");
+        Files.writeString(ndjsonFile, "{\"street\": \"A\"}\n{\"street\": \"B\"}\n");
+
+        // Given
+        List<String> fromArray = new ArrayList<>();
+        try (MappingIterator<Address> iterator = objectMapper.readValues(arrayFile, Address.class)) {
+            iterator.forEachRemaining(a -> fromArray.add(a.getStreet()));
+        }
+        List<String> fromNdjson = new ArrayList<>();
+        try (MappingIterator<Address> iterator = objectMapper.readValues(ndjsonFile, Address.class)) {
+            iterator.forEachRemaining(a -> fromNdjson.add(a.getStreet()));
+        }
+
+        // Then
+        assertEquals(List.of("A", "B"), fromArray, "Array elements should be read one by one.");
+        assertEquals(List.of("A", "B"), fromNdjson, "Top-level values should be read one by one.");
+    }
+
+    @Test
+    public void testReaderForUpdating() throws Exception {
+        // When
+        Address address = new Address("123 Main St", "Springfield", "12345");
+        List<String> skills = new ArrayList<>(Arrays.asList("Java", "Spring"));
+        Person person = new Person("Jane Doe", 28, true, address, skills);
+        String patch = """
+                {
+                    "age": 29,
+                    "address": { "city": "Shelbyville" },
+                    "skills": ["Kotlin"]
+                }
+                """;
+
+        // Given
+        Person updated = objectMapper.readerForUpdating(person).readValue(patch);
+
+        // Then
+        assertSame(person, updated, "The existing instance should be returned.");
+        assertEquals("Jane Doe", person.getName(), "Fields missing from JSON should be kept.");
+        assertEquals(29, person.getAge(), "Fields present in JSON should be updated.");
+        assertSame(address, person.getAddress(), "Nested object should be reused.");
+        assertEquals("Shelbyville", address.getCity(), "Nested field should be updated.");
+        assertEquals("123 Main St", address.getStreet(), "Nested field missing from JSON should be kept.");
+        assertSame(skills, person.getSkills(), "Existing collection should be reused.");
+        assertEquals(List.of("Kotlin"), skills, "Collection contents should be replaced.");
+    }
+
+    @Test
+    public void testReaderForUpdatingMergePatchNulls() throws Exception {
+        // When
+        Map<String, Address> offices = new HashMap<>();
+        offices.put("Headquarters", new Address("123 Main St", "Springfield", "12345"));
+        offices.put("Branch", new Address("456 Side St", "Springfield", "12345"));
+        Company company = new Company("Tech Solutions Inc.", null, offices);
+        String patch = "{\"name\": null, \"offices\": {\"Branch\": null, \"Headquarters\": {\"zipcode\": \"54321\"}}}";
+
+        // Given
+        objectMapper.readerForUpdating(company).readValue(patch);
+
+        // Then
+        assertNull(company.getName(), "null should clear the field.");
+        assertSame(offices, company.getOffices(), "Existing map should be reused.");
+        assertFalse(offices.containsKey("Branch"), "null should remove the map entry.");
+        assertEquals("54321", offices.get("Headquarters").getZipcode(), "Map value should be updated in place.");
+        assertEquals("123 Main St", offices.get("Headquarters").getStreet(), "Untouched map value fields should be kept.");
+    }
+
+    @Test
+    public void testReadValueFromUtf8Bytes() throws Exception {
+        // When
+        String json = "{\"name\":\"홍길동\",\"age\":30,\"active\":true,\"skills\":[\"Java\"]}";
+        ByteBuffer bytes = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+
+        // Given
+        Person person = objectMapper.readValue(bytes, Person.class);
+
+        // Then
+        assertEquals("홍길동", person.getName(), "Multi-byte characters should be decoded.");
+        assertEquals(30, person.getAge(), "Person's age should match.");
+        assertEquals(List.of("Java"), person.getSkills(), "Skills should match.");
+    }
+
+    @Test
+    public void testConvertValueFromMap() throws Exception {
+        // When
+        Map<String, Object> source = new HashMap<>();
+        source.put("name", "Jane Doe");
+        source.put("age", 28L);
+        source.put("active", true);
+        source.put("address", Map.of("street", "123 Main St", "city", "Springfield", "zipcode", "12345"));
+        source.put("skills", Set.of("Java"));
+
+        // Given
+        Person person = objectMapper.convertValue(source, Person.class);
+
+        // Then
+        assertEquals("Jane Doe", person.getName(), "Person's name should match.");
+        assertEquals(28, person.getAge(), "Long value should be converted to int.");
+        assertTrue(person.isActive(), "Person should be active.");
+        assertEquals("Springfield", person.getAddress().getCity(), "Nested map should be converted to Address.");
+        assertEquals(List.of("Java"), person.getSkills(), "Set should be converted to List.");
+    }
+
+    @Test
+    public void testConvertValueBetweenShapes() throws Exception {
+        // When
+        Address address = new Address("123 Main St", "Springfield", "12345");
+        Person person = new Person("Jane Doe", 28, true, address, Arrays.asList("Java", "Spring"));
+        Company company = new Company("Tech Solutions Inc.", Arrays.asList(person), Map.of("Headquarters", address));
+
+        // Given
+        Company copy = objectMapper.convertValue(company, Company.class);
+        Map<String, Object> map = objectMapper.convertValue(company, Map.class);
+
+        // Then
+        assertEquals(company, copy, "Converted company should be equal to the original.");
+        assertNotSame(company.getEmployees().get(0), copy.getEmployees().get(0), "Nested objects should be copied.");
+        assertEquals("Tech Solutions Inc.", map.get("name"), "POJO should be converted to Map.");
+        assertTrue(map.get("employees") instanceof List, "List field should stay a List.");
+    }
 }
@@ -0,0 +1,76 @@
+package org.myspringframework.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        // Assert: 모든 bucket이 빈틈없이 이어지고, 값은 자기 bucket 범위 안에 들어감
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(LatencyHistogram.bucketUpperBound(i - 1) + 1, LatencyHistogram.bucketLowerBound(i),
+                    "Bucket " + i + " should start right after the previous bucket.");
+        }
+        for (long value : new long[]{0, 15, 16, 31, 32, 1_000, 123_456_789, (1L << 40) - 1}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value && value <= LatencyHistogram.bucketUpperBound(index),
+                    "Value " + value + " should be inside bucket " + index);
+        }
+    }
+
+    @Test
+    public void testQuantiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When: 1us ~ 1000us
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        // Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount(), "Every value should be counted.");
+        assertEquals(500_500_000L, snapshot.getSum(), "Sum should be exact.");
+        assertWithin(500_000, snapshot.getValueAtQuantile(0.5));
+        assertWithin(900_000, snapshot.getValueAtQuantile(0.9));
+        assertWithin(990_000, snapshot.getValueAtQuantile(0.99));
+        assertWithin(999_000, snapshot.getValueAtQuantile(0.999));
+    }
+
+    @Test
+    public void testConcurrentRecordAndMerge() throws InterruptedException {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(100);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount(), "No record should be lost across threads.");
+        assertEquals(160_000, snapshot.merge(snapshot).getCount(), "Merged snapshot should add counts.");
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= 1.0 / 16, "Expected about " + expected + " but was " + actual);
+    }
+}
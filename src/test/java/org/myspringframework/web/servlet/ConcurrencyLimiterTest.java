@@ -0,0 +1,91 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.myspringframework.web.bind.annotation.RequestMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimiterTest {
+    private static final long MS = 1_000_000;
+
+    private ConcurrencyLimiter limiter;
+    private HandlerPattern pattern;
+
+    @BeforeEach
+    public void setUp() {
+        limiter = new ConcurrencyLimiter();
+        limiter.setInitialLimit(20);
+        limiter.setMinLimit(10);
+        limiter.setMaxLimit(100);
+        pattern = new HandlerPattern(RequestMethod.GET, "/users/{id}");
+    }
+
+    @Test
+    public void testRejectAtLimit() {
+        // Given
+        List<ConcurrencyLimiter.RouteLimit> acquired = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            acquired.add(limiter.acquire(pattern));
+        }
+
+        // When & Then
+        ConcurrencyLimitExceededException exception =
+                assertThrows(ConcurrencyLimitExceededException.class, () -> limiter.acquire(pattern));
+        assertEquals(503, exception.getStatus().value(), "Rejection should be 503.");
+        assertEquals("1", exception.getHeaders().getFirst("Retry-After"), "Rejection should carry Retry-After.");
+
+        // When
+        acquired.get(0).release(MS);
+
+        // Then
+        assertNotNull(limiter.acquire(pattern), "Released permit should be available again.");
+    }
+
+    @Test
+    public void testLimitGrowsWhenLatencyIsStable() {
+        // When: 한도까지 채운 상태에서 응답 시간이 일정
+        for (int round = 0; round < 50; round++) {
+            saturate(10 * MS);
+        }
+
+        // Then
+        assertEquals(100, limiter.acquire(pattern).getLimit(), "Limit should grow to the maximum.");
+    }
+
+    @Test
+    public void testLimitShrinksWhenLatencyRises() {
+        // Given
+        for (int round = 0; round < 50; round++) {
+            saturate(10 * MS);
+        }
+
+        // When: 응답 시간이 10배로 증가 (계속되면 장기 평균이 따라 올라가 한도가 다시 늘어남)
+        for (int round = 0; round < 2; round++) {
+            saturate(100 * MS);
+        }
+
+        // Then
+        int limit = limiter.acquire(pattern).getLimit();
+        assertTrue(limit < 50, "Limit should shrink when latency rises: " + limit);
+        assertTrue(limit >= 10, "Limit should not go below the minimum: " + limit);
+    }
+
+    /**
+     * 현재 한도만큼 허가받고 모두 같은 응답 시간으로 반환
+     */
+    private void saturate(long rttNanos) {
+        List<ConcurrencyLimiter.RouteLimit> acquired = new ArrayList<>();
+        try {
+            while (true) {
+                acquired.add(limiter.acquire(pattern));
+            }
+        } catch (ConcurrencyLimitExceededException e) {
+            // 한도에 도달
+        }
+        acquired.forEach(limit -> limit.release(rttNanos));
+    }
+}
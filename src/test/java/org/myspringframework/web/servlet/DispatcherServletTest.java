@@ -0,0 +1,686 @@
+package org.myspringframework.web.servlet;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.myspringframework.boot.ServerProperties;
+import org.myspringframework.boot.SpringApplication;
+import org.myspringframework.context.ApplicationContext;
+import org.myspringframework.context.InternalBeanRegistrar;
+import org.myspringframework.mapper.JsonParser;
+import org.myspringframework.mapper.ObjectMapper;
+import org.myspringframework.web.bind.annotation.Priority;
+import org.myspringframework.web.servlet.testapp.AsyncController;
+import org.myspringframework.web.servlet.testapp.CacheController;
+import org.myspringframework.web.servlet.testapp.ContentController;
+import org.myspringframework.web.servlet.testapp.EtagController;
+import org.myspringframework.web.servlet.testapp.PriorityController;
+import org.slf4j.LoggerFactory;
+import org.myspringframework.web.servlet.testapp.WebTestApplication;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 서버를 띄우고 요청을 보내 DispatcherServlet부터 응답 작성까지의 동작을 확인합니다.
+ * 잘못된 percent-encoding처럼 {@link java.net.URI}로 만들 수 없는 요청도 보내도록 socket에 직접 씁니다.
+ */
+public class DispatcherServletTest {
+    private ApplicationContext context;
+    private Server server;
+    private int port;
+    private ObjectMapper objectMapper; // null이 아니면 기본 ObjectMapper 대신 등록
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            SpringApplication.shutdown(server, context);
+        }
+    }
+
+    @Test
+    public void testMalformedQueryOnCachedRoute() throws Exception {
+        // Given
+        start();
+
+        // When
+        Response response = request("GET", "/cached?q=%ZZ", null);
+
+        // Then
+        assertEquals(400, response.status, "Malformed percent-encoding in a cache key should be a bad request.");
+        assertTrue(response.bodyString().contains("\"status\": 400"), "Error body should be JSON: " + response.bodyString());
+        assertEquals(200, request("GET", "/cached?q=%41", null).status, "Well-formed value should still be served.");
+    }
+
+    @Test
+    public void testResponseCacheHit() throws Exception {
+        // Given
+        start();
+        CacheController controller = context.getBean(CacheController.class);
+
+        // When
+        Response first = request("GET", "/cached?q=a", null);
+        Response second = request("GET", "/cached?q=a", null);
+        int afterHit = controller.getCalls();
+        Response other = request("GET", "/cached?q=b", null);
+        Response item1 = request("GET", "/cached/items/1", null);
+        Response item2 = request("GET", "/cached/items/2", null);
+        Response item1Again = request("GET", "/cached/items/1", null);
+
+        // Then
+        assertEquals("\"a 1\"", first.bodyString());
+        assertEquals(first.bodyString(), second.bodyString(), "Second request should get the cached body.");
+        assertEquals(1, afterHit, "Cached response should be served without calling the handler.");
+        assertEquals("\"b 2\"", other.bodyString(), "Different query parameter should miss.");
+        assertEquals(2, controller.getCalls());
+        assertEquals("\"1 1\"", item1.bodyString());
+        assertEquals("\"2 2\"", item2.bodyString(), "Different path variable should miss.");
+        assertEquals(item1.bodyString(), item1Again.bodyString());
+        assertEquals(2, controller.getItemCalls(), "Cached path variable should hit.");
+    }
+
+    @Test
+    public void testResponseCacheEvict() throws Exception {
+        // Given
+        start();
+        CacheController controller = context.getBean(CacheController.class);
+        ResponseCacheManager manager = context.getBean(ResponseCacheManager.class);
+        request("GET", "/cached?q=a", null);
+        request("GET", "/cached?q=b", null);
+
+        // When
+        manager.getCache("CacheController.cached").evict("a");
+        Response evicted = request("GET", "/cached?q=a", null);
+        Response kept = request("GET", "/cached?q=b", null);
+
+        // Then
+        assertEquals("\"a 3\"", evicted.bodyString(), "Evicted entry should call the handler again.");
+        assertEquals("\"b 2\"", kept.bodyString(), "Other entries should stay cached.");
+        assertEquals(3, controller.getCalls());
+    }
+
+    @Test
+    public void testStaleResponseIsRefreshedThenExpires() throws Exception {
+        // Given: ttl 1초
+        start();
+        CacheController controller = context.getBean(CacheController.class);
+        request("GET", "/cached/items/1", null);
+        Thread.sleep(1100);
+
+        // When: ttl이 지난 뒤의 요청
+        Response stale = request("GET", "/cached/items/1", null);
+        awaitCondition(() -> "\"1 2\"".equals(requestUnchecked("/cached/items/1").bodyString()));
+        Response refreshed = request("GET", "/cached/items/1", null);
+
+        // Then
+        assertEquals("\"1 1\"", stale.bodyString(), "Stale entry should be served while it refreshes.");
+        assertEquals("\"1 2\"", refreshed.bodyString(), "Refreshed entry should replace the stale one.");
+        assertEquals(2, controller.getItemCalls());
+
+        // When: 2 x ttl이 지난 뒤의 요청
+        Thread.sleep(2100);
+        Response expired = request("GET", "/cached/items/1", null);
+
+        // Then
+        assertEquals("\"1 3\"", expired.bodyString(), "Entry older than 2 x ttl should be dropped.");
+        assertEquals(3, controller.getItemCalls(), "Expired entry should be loaded by the request itself.");
+    }
+
+    @Test
+    public void testExceptionHandlerAdvice() throws Exception {
+        // Given
+        start();
+        ListAppender<ILoggingEvent> logs = new ListAppender<>();
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        logs.start();
+        root.addAppender(logs);
+
+        // When
+        Response invalid;
+        Response missing;
+        Response deleted;
+        Response broken;
+        try {
+            invalid = request("GET", "/items/invalid", null);
+            missing = request("GET", "/items/missing", null);
+            deleted = request("GET", "/items/deleted", null);
+            int beforeBroken = logs.list.size();
+            broken = request("GET", "/items/broken", null);
+            awaitCondition(() -> logs.list.size() > beforeBroken);
+        } finally {
+            root.detachAppender(logs);
+        }
+
+        // Then
+        assertEquals(400, invalid.status, "Declared exception type should be handled by the advice.");
+        assertEquals("\"invalid invalid\"", invalid.bodyString());
+        assertEquals(404, missing.status);
+        assertEquals("\"not found missing\"", missing.bodyString());
+        assertEquals(404, deleted.status, "Nearest superclass handler should win.");
+        assertEquals("\"not found deleted\"", deleted.bodyString());
+        assertEquals(500, broken.status, "Exception without a handler should be an internal error.");
+        assertTrue(broken.bodyString().contains("\"status\": 500"), "Error body should be JSON: " + broken.bodyString());
+        assertEquals(1, logs.list.stream().filter(event -> event.getThrowableProxy() != null).count(),
+                "Only the unhandled exception should be logged: " + logs.list);
+    }
+
+    @Test
+    public void testNotFoundAndMethodNotAllowed() throws Exception {
+        // Given
+        start();
+
+        // When
+        Response notFound = request("GET", "/no/such/path", null);
+        Response notAllowed = request("DELETE", "/items/1", null);
+
+        // Then
+        assertEquals(404, notFound.status);
+        assertTrue(notFound.header("Content-Type").startsWith("application/json"));
+        assertTrue(notFound.bodyString().contains("\"status\": 404"), "Error body should be JSON: " + notFound.bodyString());
+        assertEquals(405, notAllowed.status);
+        assertEquals("GET", notAllowed.header("Allow"), "405 should list the allowed methods.");
+        assertTrue(notAllowed.bodyString().contains("\"status\": 405"), "Error body should be JSON: " + notAllowed.bodyString());
+    }
+
+    @Test
+    public void testMetricsEndpoint() throws Exception {
+        // Given
+        start("--" + ServerProperties.CONCURRENCY_LIMIT_ENABLED + "=true", "--" + ServerProperties.PRIORITY_ENABLED + "=true");
+        RequestMetrics requestMetrics = context.getBean(RequestMetrics.class);
+        request("GET", "/etag/auto", null);
+        request("GET", "/etag/auto", null);
+        request("GET", "/items/invalid", null);
+        request("GET", "/no/such/path", null);
+        request("POST", "/body/name", json("kim"), "Content-Type: application/json");
+        // 응답을 받은 뒤에 기록되므로 마지막 요청까지 기록될 때까지 대기
+        awaitCondition(() -> requestMetrics.scrape().contains("uri=\"/body/name\",status=\"2xx\"}"));
+
+        // When
+        Response response = request("GET", "/metrics", null);
+
+        // Then
+        assertEquals(200, response.status);
+        assertTrue(response.header("Content-Type").startsWith("text/plain; version=0.0.4"));
+        Map<String, String> series = parseMetrics(response.bodyString());
+        String auto = "method=\"GET\",uri=\"/etag/auto\"";
+        for (String quantile : new String[]{"0.5", "0.9", "0.99", "0.999"}) {
+            assertNotNull(series.get("http_server_requests_seconds{" + auto + ",status=\"2xx\",quantile=\"" + quantile + "\"}"),
+                    "Quantile " + quantile + " should be exported: " + series.keySet());
+        }
+        assertEquals("2", series.get("http_server_requests_seconds_count{" + auto + ",status=\"2xx\"}"));
+        assertTrue(Double.parseDouble(series.get("http_server_requests_seconds_sum{" + auto + ",status=\"2xx\"}")) > 0);
+        assertEquals("1", series.get("http_server_requests_seconds_count{method=\"GET\",uri=\"/items/{id}\",status=\"4xx\"}"),
+                "Path template should be the uri label.");
+        assertEquals("1", series.get("http_server_requests_seconds_count{method=\"\",uri=\"NOT_FOUND\",status=\"4xx\"}"),
+                "Unmatched request should be counted as NOT_FOUND.");
+        assertEquals(String.valueOf(json("kim").length),
+                series.get("http_server_request_bytes_total{method=\"POST\",uri=\"/body/name\"}"));
+        assertEquals(String.valueOf(2 * "\"auto\"".length()), series.get("http_server_response_bytes_total{" + auto + "}"));
+        assertNotNull(series.get("http_server_concurrency_limit{" + auto + "}"), "Concurrency limiter should be collected.");
+        assertEquals("0", series.get("http_server_concurrency_in_flight{" + auto + "}"));
+        assertEquals("0", series.get("http_server_priority_queue_size{priority=\"" + Priority.NORMAL + "\"}"),
+                "Priority executor should be collected.");
+        assertFalse(series.keySet().stream().anyMatch(name -> name.contains("/metrics")), "Scrape itself should not be recorded.");
+    }
+
+    @Test
+    public void testRequestBodyHandlersAreScheduledByPriority() throws Exception {
+        // Given: worker 하나가 다른 요청을 처리하는 중
+        PriorityController.HANDLED.clear();
+        PriorityController.blocking = new CountDownLatch(1);
+        PriorityController.release = new CountDownLatch(1);
+        start("--" + ServerProperties.PRIORITY_ENABLED + "=true", "--" + ServerProperties.PRIORITY_WORKERS + "=1",
+                "--" + ServerProperties.PRIORITY_AGING + "=60000");
+        PriorityExecutor executor = context.getBean(PriorityExecutor.class);
+        CompletableFuture<Response> block = send(() -> request("GET", "/priority/block", null));
+        assertTrue(PriorityController.blocking.await(5, TimeUnit.SECONDS), "Blocking handler should occupy the worker.");
+
+        // When: 낮은 우선순위 요청이 먼저 대기열에 들어간 뒤 높은 우선순위 요청이 들어옴
+        CompletableFuture<Response> report = send(() -> request("POST", "/priority/report", json("report")));
+        awaitCondition(() -> executor.getQueueSize(Priority.LOWEST) == 1);
+        CompletableFuture<Response> checkout = send(() -> request("POST", "/priority/checkout", json("checkout")));
+        awaitCondition(() -> executor.getQueueSize(Priority.HIGHEST) == 1);
+        PriorityController.release.countDown();
+
+        // Then
+        assertEquals(200, block.get(5, TimeUnit.SECONDS).status);
+        assertEquals(200, report.get(5, TimeUnit.SECONDS).status);
+        assertEquals(200, checkout.get(5, TimeUnit.SECONDS).status);
+        assertEquals(2, PriorityController.HANDLED.size(), "Both body handlers should run: " + PriorityController.HANDLED);
+        assertTrue(PriorityController.HANDLED.get(0).startsWith("checkout@priority-"),
+                "Higher priority body handler should run first on a priority worker: " + PriorityController.HANDLED);
+        assertTrue(PriorityController.HANDLED.get(1).startsWith("report@priority-"),
+                "Lower priority body handler should run on a priority worker: " + PriorityController.HANDLED);
+    }
+
+    @Test
+    public void testScheduledRequestTimesOut() throws Exception {
+        // Given: 하나뿐인 worker가 async timeout보다 오래 걸리는 핸들러를 실행 중
+        PriorityController.blocking = new CountDownLatch(1);
+        PriorityController.release = new CountDownLatch(1);
+        start("--" + ServerProperties.PRIORITY_ENABLED + "=true", "--" + ServerProperties.PRIORITY_WORKERS + "=1",
+                "--" + ServerProperties.ASYNC_TIMEOUT + "=1000");
+        PriorityExecutor executor = context.getBean(PriorityExecutor.class);
+        CompletableFuture<Response> block = send(() -> request("GET", "/priority/block", null));
+        assertTrue(PriorityController.blocking.await(5, TimeUnit.SECONDS), "Blocking handler should occupy the worker.");
+
+        // When: body 없는 요청이 대기열에서 기다림
+        CompletableFuture<Response> queued = send(() -> request("GET", "/priority/block", null));
+        awaitCondition(() -> executor.getQueueSize(Priority.NORMAL) == 1);
+
+        // Then: 대기열과 핸들러 모두 async timeout이 지나면 503으로 끝남
+        assertEquals(503, queued.get(5, TimeUnit.SECONDS).status, "Queued request should time out.");
+        assertEquals(503, block.get(5, TimeUnit.SECONDS).status, "Running handler should time out.");
+        PriorityController.release.countDown();
+        awaitCondition(() -> executor.getQueueSize(Priority.NORMAL) == 0);
+        Response response = request("GET", "/priority/block", null);
+        assertEquals(200, response.status, "Worker should serve new requests after the timed out ones.");
+        assertEquals("\"released\"", response.bodyString());
+    }
+
+    @Test
+    public void testRequestBodyHandlerRejectedWhenQueueIsFull() throws Exception {
+        // Given: HIGHEST 대기열 크기가 0
+        start("--" + ServerProperties.PRIORITY_ENABLED + "=true",
+                "--" + ServerProperties.PRIORITY_QUEUE_CAPACITY + "=0,1000,1000,1000,1000");
+
+        // When
+        Response response = request("POST", "/priority/checkout", json("checkout"));
+
+        // Then
+        assertEquals(503, response.status, "Full priority queue should reject the body handler.");
+        assertNotNull(response.header("Retry-After"), "Rejection should carry Retry-After.");
+    }
+
+    @Test
+    public void testRequestBodyLimits() throws Exception {
+        // Given
+        start("--" + ServerProperties.MAX_REQUEST_BODY_SIZE + "=64", "--" + ServerProperties.ASYNC_TIMEOUT + "=300");
+
+        // When & Then: Content-Length가 최대 크기를 넘으면 읽기 전에 413
+        assertEquals(413, request("POST", "/body/name", new byte[1000], "Content-Type: application/json").status,
+                "Oversize Content-Length should be rejected.");
+
+        // When & Then: body가 다 오지 않으면 timeout 후 408
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /body/name HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n"
+                    + "Content-Type: application/json\r\nContent-Length: 20\r\n\r\n{\"na").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertEquals(408, Response.parse(socket.getInputStream()).status, "Incomplete body should time out.");
+        }
+
+        // Then: 작은 body는 정상 처리
+        Response ok = request("POST", "/body/name", json("kim"), "Content-Type: application/json");
+        assertEquals(200, ok.status);
+        assertEquals("\"kim\"", ok.bodyString(), "Body should be bound to the handler parameter.");
+    }
+
+    @Test
+    public void testEmptyRequestBodyBindsNull() throws Exception {
+        // Given
+        start();
+
+        // When
+        Response response = request("POST", "/body/name", new byte[0], "Content-Type: application/json");
+
+        // Then
+        assertEquals(200, response.status, "Empty body should not be a parse error.");
+        assertEquals("\"empty\"", response.bodyString(), "Empty body should bind null.");
+    }
+
+    @Test
+    public void testCompletionStageResults() throws Exception {
+        // Given
+        start("--" + ServerProperties.ASYNC_TIMEOUT + "=300");
+
+        // When & Then: 완료한 스레드에서 응답
+        Response delayed = request("GET", "/async/delayed/100", null);
+        assertEquals(200, delayed.status, "Completed future should be written.");
+        assertEquals("\"done after 100\"", delayed.bodyString(), "Future result should be the response body.");
+
+        // When & Then: 예외로 완료되면 500
+        Response failed = request("GET", "/async/failed", null);
+        assertEquals(500, failed.status, "Exceptional completion should be an internal error.");
+        assertTrue(failed.bodyString().contains("Internal Server Error"), "Error body should be JSON: " + failed.bodyString());
+    }
+
+    @Test
+    public void testCompletionStageTimeout() throws Exception {
+        // Given
+        start("--" + ServerProperties.ASYNC_TIMEOUT + "=200");
+
+        // When
+        Response timedOut = request("GET", "/async/never", null);
+
+        // Then: 503으로 응답하고 기다리던 future를 취소
+        assertEquals(503, timedOut.status, "Future that does not complete in time should be answered with 503.");
+        assertTrue(AsyncController.pending.isCancelled(), "Timed-out future should be cancelled.");
+
+        // When: 취소할 수 없는 stage가 timeout 뒤에 완료
+        Response late = request("GET", "/async/late", null);
+        CompletableFuture<String> pending = AsyncController.pending;
+        assertTrue(pending.complete("too late"), "Stage should still be pending after the timeout.");
+
+        // Then: timeout 응답 하나만 쓰고, 늦은 완료는 무시
+        assertEquals(503, late.status, "Late stage should get the timeout response.");
+        assertFalse(late.bodyString().contains("too late"), "Late result should not be written.");
+        Response next = request("GET", "/async/delayed/0", null);
+        assertEquals(200, next.status, "Server should keep serving after a late completion.");
+    }
+
+    @Test
+    public void testGzipRequestBody() throws Exception {
+        // Given
+        start();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json("kim"));
+        }
+
+        // When
+        Response decoded = request("POST", "/body/name", compressed.toByteArray(),
+                "Content-Type: application/json", "Content-Encoding: gzip");
+        Response malformed = request("POST", "/body/name", "not gzip at all".getBytes(StandardCharsets.US_ASCII),
+                "Content-Type: application/json", "Content-Encoding: gzip");
+
+        // Then
+        assertEquals(200, decoded.status, "gzip body should be decoded before binding.");
+        assertEquals("\"kim\"", decoded.bodyString(), "Decoded body should be bound.");
+        assertEquals(400, malformed.status, "Malformed gzip body should be a bad request.");
+    }
+
+    @Test
+    public void testCompressedResponseCache() throws Exception {
+        for (String maxBytes : new String[]{"4194304", "1"}) {
+            // Given: 압축 결과를 보관하거나(4MB), 보관할 수 없을 만큼 작은 한도(1 byte)
+            start("--" + ServerProperties.COMPRESSION_CACHE_MAX_BYTES + "=" + maxBytes);
+
+            // When: 같은 body를 두 번 요청
+            Response first = request("GET", "/content/large", null, "Accept-Encoding: gzip");
+            Response second = request("GET", "/content/large", null, "Accept-Encoding: gzip");
+
+            // Then
+            assertEquals("gzip", first.header("Content-Encoding"), "Large response should be compressed.");
+            assertArrayEquals(first.body, second.body, "Same body should get the same compressed bytes.");
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(second.body))) {
+                assertEquals("\"" + ContentController.LARGE + "\"", new String(in.readAllBytes(), StandardCharsets.UTF_8),
+                        "Compressed body should decode to the response.");
+            }
+            tearDown();
+            server = null;
+        }
+    }
+
+    @Test
+    public void testConditionalGet() throws Exception {
+        // Given: Payload를 직렬화한 횟수를 세는 ObjectMapper
+        AtomicInteger serialized = new AtomicInteger();
+        objectMapper = new ObjectMapper(new JsonParser()) {
+            @Override
+            public String writeValueAsString(Object obj) {
+                if (obj instanceof EtagController.Payload) {
+                    serialized.incrementAndGet();
+                }
+                return super.writeValueAsString(obj);
+            }
+        };
+        start();
+        Response auto = request("GET", "/etag/auto", null);
+
+        // When
+        Response autoNotModified = request("GET", "/etag/auto", null, "If-None-Match: " + auto.header("ETag"));
+        Response entityNotModified = request("GET", "/etag/entity", null, "If-None-Match: \"v1\"");
+        Response checkNotModified = request("GET", "/etag/check", null, "If-None-Match: \"v2\"");
+        Response checkModified = request("GET", "/etag/check", null, "If-None-Match: \"v1\"");
+
+        // Then
+        assertEquals(200, auto.status);
+        assertNotNull(auto.header("ETag"), "ETag should be generated from the body.");
+        assertEquals(304, autoNotModified.status, "Matching generated ETag should be not modified.");
+        assertEquals(0, autoNotModified.body.length, "304 should have no body.");
+        assertEquals(304, entityNotModified.status, "Matching handler ETag should be not modified.");
+        assertEquals(0, entityNotModified.body.length, "304 should have no body.");
+        assertEquals(0, serialized.get(), "Body should not be serialized when the handler ETag matches.");
+        assertEquals(304, checkNotModified.status, "checkNotModified should override the returned value.");
+        assertEquals(0, checkNotModified.body.length, "304 should have no body.");
+        assertEquals("\"v2\"", checkNotModified.header("ETag"));
+        assertEquals(200, checkModified.status);
+        assertEquals("\"fresh\"", checkModified.bodyString(), "Stale client should get the returned value.");
+    }
+
+    @Test
+    public void testHandlerETagWithCompression() throws Exception {
+        // Given
+        start();
+
+        // When
+        Response gzip = request("GET", "/etag/large", null, "Accept-Encoding: gzip");
+        Response identity = request("GET", "/etag/large", null);
+        Response gzipNotModified = request("GET", "/etag/large", null,
+                "Accept-Encoding: gzip", "If-None-Match: " + gzip.header("ETag"));
+        Response identityNotModified = request("GET", "/etag/large", null, "If-None-Match: \"v3\"");
+
+        // Then
+        assertEquals("gzip", gzip.header("Content-Encoding"), "Large response should be compressed.");
+        assertEquals("\"v3-gzip\"", gzip.header("ETag"), "Compressed bytes should get their own strong ETag.");
+        assertNull(identity.header("Content-Encoding"));
+        assertEquals("\"v3\"", identity.header("ETag"), "Identity bytes should keep the handler ETag.");
+        assertEquals(304, gzipNotModified.status, "Compressed ETag should match before serialization.");
+        assertEquals(304, identityNotModified.status, "Handler ETag should match before serialization.");
+    }
+
+    @Test
+    public void testServerTiming() throws Exception {
+        // Given
+        start("--" + ServerProperties.SERVER_TIMING_ENABLED + "=true");
+
+        // When
+        Response response = request("GET", "/etag/auto", null);
+
+        // Then
+        assertEquals(200, response.status);
+        String serverTiming = response.header("Server-Timing");
+        assertNotNull(serverTiming, "Server-Timing header should be added when enabled.");
+        String[] names = Arrays.stream(serverTiming.split(", ")).map(metric -> metric.substring(0, metric.indexOf(';')))
+                .toArray(String[]::new);
+        assertArrayEquals(new String[]{"route", "bind", "handler", "serialize", "write", "total"}, names,
+                "Every executed phase should be listed in order: " + serverTiming);
+    }
+
+    @Test
+    public void testServerTimingDisabledByDefault() throws Exception {
+        // Given
+        start();
+
+        // When
+        Response response = request("GET", "/etag/auto", null);
+
+        // Then
+        assertEquals(200, response.status);
+        assertNull(response.header("Server-Timing"), "Server-Timing header should be opt-in.");
+    }
+
+    private void start(String... args) throws Exception {
+        context = new ApplicationContext();
+        new InternalBeanRegistrar().registerBeans(context);
+        if (objectMapper != null) {
+            context.registerBean(ObjectMapper.class, objectMapper);
+        }
+        context.refresh(WebTestApplication.class);
+
+        String[] all = Arrays.copyOf(args, args.length + 1);
+        all[args.length] = "--" + ServerProperties.PORT + "=0";
+        server = SpringApplication.createServer(context, new ServerProperties(new Properties(), all));
+        server.start();
+        port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+    }
+
+    private static byte[] json(String name) {
+        return ("{\"name\": \"" + name + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CompletableFuture<Response> send(Callable<Response> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return request.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition was not met in time.");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Prometheus text 형식을 series(이름과 label) -> 값으로 읽습니다.
+     */
+    private static Map<String, String> parseMetrics(String text) {
+        Map<String, String> series = new HashMap<>();
+        for (String line : text.split("\n")) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int space = line.lastIndexOf(' ');
+            assertTrue(space > 0, "Sample should have a value: " + line);
+            assertNull(series.put(line.substring(0, space), line.substring(space + 1)), "Series should be unique: " + line);
+        }
+        return series;
+    }
+
+    private Response requestUnchecked(String target) {
+        try {
+            return request("GET", target, null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * HTTP/1.1 요청 하나를 보내고 연결이 닫힐 때까지 응답을 읽습니다.
+     *
+     * @param headers "Name: value" 형식의 추가 header
+     */
+    private Response request(String method, String target, byte[] body, String... headers) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            StringBuilder head = new StringBuilder()
+                    .append(method).append(' ').append(target).append(" HTTP/1.1\r\n")
+                    .append("Host: localhost\r\nConnection: close\r\n");
+            for (String header : headers) {
+                head.append(header).append("\r\n");
+            }
+            if (body != null) {
+                head.append("Content-Length: ").append(body.length).append("\r\n");
+            }
+            head.append("\r\n");
+
+            OutputStream out = socket.getOutputStream();
+            out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+            if (body != null) {
+                out.write(body);
+            }
+            out.flush();
+            return Response.parse(socket.getInputStream());
+        }
+    }
+
+    static final class Response {
+        final int status;
+        final Map<String, String> headers;
+        final byte[] body;
+
+        private Response(int status, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        String header(String name) {
+            return headers.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        String bodyString() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        static Response parse(InputStream in) throws IOException {
+            byte[] raw = in.readAllBytes();
+            int headEnd = indexOf(raw, "\r\n\r\n".getBytes(StandardCharsets.US_ASCII), 0);
+            if (headEnd < 0) {
+                throw new IOException("Incomplete response: " + new String(raw, StandardCharsets.ISO_8859_1));
+            }
+            String[] lines = new String(raw, 0, headEnd, StandardCharsets.ISO_8859_1).split("\r\n");
+            int status = Integer.parseInt(lines[0].split(" ")[1]);
+            Map<String, String> headers = new HashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                headers.put(lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT), lines[i].substring(colon + 1).trim());
+            }
+
+            byte[] body = Arrays.copyOfRange(raw, headEnd + 4, raw.length);
+            if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+                body = dechunk(body);
+            }
+            return new Response(status, headers, body);
+        }
+
+        private static byte[] dechunk(byte[] chunked) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] crlf = "\r\n".getBytes(StandardCharsets.US_ASCII);
+            int position = 0;
+            while (true) {
+                int lineEnd = indexOf(chunked, crlf, position);
+                String sizeLine = new String(chunked, position, lineEnd - position, StandardCharsets.US_ASCII);
+                int size = Integer.parseInt(sizeLine.split(";")[0].trim(), 16);
+                if (size == 0) {
+                    return out.toByteArray();
+                }
+                out.write(chunked, lineEnd + 2, size);
+                position = lineEnd + 2 + size + 2;
+            }
+        }
+
+        private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+            outer:
+            for (int i = from; i <= bytes.length - pattern.length; i++) {
+                for (int j = 0; j < pattern.length; j++) {
+                    if (bytes[i + j] != pattern[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionHandlerMethodTest {
+
+    public static class Advice {
+        public String handleRuntime(RuntimeException e) {
+            return "runtime:" + e.getMessage();
+        }
+
+        public String handleIllegalArgument(IllegalArgumentException e) {
+            return "illegal:" + e.getMessage();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDistance() throws NoSuchMethodException {
+        // Given
+        ExceptionHandlerMethod method = new ExceptionHandlerMethod(new Advice(),
+                Advice.class.getMethod("handleRuntime", RuntimeException.class),
+                (Class<? extends Throwable>[]) new Class<?>[]{RuntimeException.class, IOException.class});
+
+        // When & Then
+        assertEquals(0, method.distance(RuntimeException.class), "Declared type should have distance 0.");
+        assertEquals(1, method.distance(IllegalArgumentException.class), "Direct subclass should have distance 1.");
+        assertEquals(2, method.distance(NumberFormatException.class), "Nearest declared type should be used.");
+        assertEquals(1, method.distance(UncheckedIOException.class), "Any declared type may match.");
+        assertEquals(-1, method.distance(Exception.class), "Superclass of the declared type should not match.");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvoke() throws Exception {
+        // Given
+        ExceptionHandlerMethod method = new ExceptionHandlerMethod(new Advice(),
+                Advice.class.getMethod("handleIllegalArgument", IllegalArgumentException.class),
+                (Class<? extends Throwable>[]) new Class<?>[]{IllegalArgumentException.class});
+
+        // When
+        Object result = method.invoke(new NumberFormatException("x"), null, null);
+
+        // Then
+        assertEquals("illegal:x", result, "Exception should be passed to the handler.");
+    }
+
+    @Test
+    public void testStacklessStatusException() {
+        // When
+        ResponseStatusException exception = new NoHandlerFoundException("GET", "/missing");
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length, "Framework exceptions should not capture a stack trace.");
+        assertEquals(404, exception.getStatus().value(), "Status should be 404.");
+    }
+}
@@ -0,0 +1,101 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandlerInvokerFactoryTest {
+
+    public static class SampleController {
+        public int calls;
+
+        public String greet(String name, int times) {
+            return name.repeat(times);
+        }
+
+        public long sum(long a, Long b) {
+            return a + b;
+        }
+
+        public void touch() {
+            calls++;
+        }
+
+        public String fail() throws IOException {
+            throw new IOException("checked");
+        }
+    }
+
+    static class HiddenController {
+        public String hello() {
+            return "hidden";
+        }
+    }
+
+    private HandlerInvokerFactory factory;
+    private SampleController controller;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new HandlerInvokerFactory();
+        controller = new SampleController();
+    }
+
+    private HandlerInvoker invoker(Object target, String name) {
+        for (Method method : target.getClass().getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return factory.create(target, method);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @Test
+    public void testInvokeWithPrimitiveArguments() throws Exception {
+        assertEquals("abab", invoker(controller, "greet").invoke(new Object[]{"ab", 2}), "Arguments should be unboxed.");
+        assertEquals(5L, invoker(controller, "sum").invoke(new Object[]{2L, 3L}), "Primitive result should be boxed.");
+    }
+
+    @Test
+    public void testInvokeVoidMethod() throws Exception {
+        // Act
+        Object result = invoker(controller, "touch").invoke(new Object[0]);
+
+        // Assert
+        assertNull(result, "Void method should return null.");
+        assertEquals(1, controller.calls, "Method should be called on the controller instance.");
+    }
+
+    @Test
+    public void testExceptionIsNotWrapped() {
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> invoker(controller, "fail").invoke(new Object[0]),
+                "Checked exception should be thrown as is.");
+        assertEquals("checked", exception.getMessage());
+    }
+
+    @Test
+    public void testInvokerIsDefinedWithTheController() {
+        // When
+        HandlerInvoker greet = invoker(controller, "greet");
+        HandlerInvoker sum = invoker(controller, "sum");
+
+        // Then
+        assertEquals(SampleController.class.getPackageName(), greet.getClass().getPackageName(),
+                "Invoker should be generated in the controller's package.");
+        assertSame(SampleController.class.getClassLoader(), greet.getClass().getClassLoader(),
+                "Invoker should not get its own class loader.");
+        assertSame(greet.getClass().getClassLoader(), sum.getClass().getClassLoader());
+        assertNotSame(greet.getClass(), sum.getClass(), "Each handler method should get its own invoker class.");
+    }
+
+    @Test
+    public void testNonPublicControllerFallsBackToMethodHandle() throws Exception {
+        assertEquals("hidden", invoker(new HiddenController(), "hello").invoke(new Object[0]),
+                "Non-public controller should still be invoked.");
+    }
+}
@@ -0,0 +1,148 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.myspringframework.web.bind.annotation.Priority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityExecutorTest {
+    private PriorityExecutor executor;
+    private CountDownLatch release;
+    private List<String> order;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new PriorityExecutor();
+        executor.setWorkers(1);
+        release = new CountDownLatch(1);
+        order = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS), "Workers should stop after shutdown.");
+    }
+
+    @Test
+    public void testHigherPriorityRunsFirst() throws InterruptedException {
+        // Given: 하나뿐인 worker를 막아 두고 대기열에 쌓기
+        executor.setAgingMillis(60_000);
+        blockWorker();
+        executor.execute(Priority.LOW, () -> order.add("low"));
+        executor.execute(Priority.NORMAL, () -> order.add("normal"));
+        executor.execute(Priority.HIGHEST, () -> order.add("highest"));
+
+        // When
+        release.countDown();
+        awaitDrained();
+
+        // Then
+        assertEquals(List.of("highest", "normal", "low"), order, "Tasks should run in priority order.");
+    }
+
+    @Test
+    public void testAgedTaskIsNotStarved() throws InterruptedException {
+        // Given: aging 1ms 동안 LOWEST가 4단계 넘게 기다림
+        executor.setAgingMillis(1);
+        blockWorker();
+        executor.execute(Priority.LOWEST, () -> order.add("lowest"));
+        Thread.sleep(20);
+        executor.execute(Priority.HIGHEST, () -> order.add("highest"));
+
+        // When
+        release.countDown();
+        awaitDrained();
+
+        // Then
+        assertEquals(List.of("lowest", "highest"), order, "A task waiting long enough should overtake newer high priority tasks.");
+    }
+
+    @Test
+    public void testRejectWhenLevelQueueIsFull() {
+        // Given
+        executor.setQueueCapacity(Priority.LOW, 1);
+        blockWorker();
+        executor.execute(Priority.LOW, () -> order.add("low"));
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(Priority.LOW, () -> order.add("rejected")),
+                "Full level should reject new tasks.");
+        executor.execute(Priority.HIGH, () -> order.add("high")); // 다른 단계는 영향 없음
+        assertEquals(1, executor.getQueueSize(Priority.LOW), "Rejected task should not be queued.");
+    }
+
+    @Test
+    public void testTaskAcceptedDuringShutdownIsRun() throws InterruptedException {
+        for (int round = 0; round < 500; round++) {
+            // Given: 종료하는 동안 여러 스레드가 계속 작업을 넣음
+            PriorityExecutor racing = new PriorityExecutor();
+            racing.setWorkers(1);
+            racing.start();
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger ran = new AtomicInteger();
+            List<Thread> submitters = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread submitter = new Thread(() -> {
+                    try {
+                        while (true) {
+                            racing.execute(Priority.NORMAL, ran::incrementAndGet);
+                            accepted.incrementAndGet();
+                        }
+                    } catch (RejectedExecutionException e) {
+                        // 종료됨
+                    }
+                });
+                submitter.start();
+                submitters.add(submitter);
+            }
+
+            // When
+            racing.shutdown();
+            for (Thread submitter : submitters) {
+                submitter.join(5000);
+                assertFalse(submitter.isAlive(), "Tasks should be rejected after shutdown.");
+            }
+
+            // Then: 받아들인 작업은 모두 실행되고 대기열에 남지 않음
+            assertTrue(racing.awaitTermination(5, TimeUnit.SECONDS), "Workers should stop after shutdown.");
+            assertEquals(accepted.get(), ran.get(), "Every accepted task should run (round " + round + ").");
+            assertEquals(0, racing.getQueueSize(Priority.NORMAL), "No task should be left in the queue.");
+        }
+    }
+
+    private void blockWorker() {
+        executor.start();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(Priority.HIGHEST, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS), "Worker should start the blocking task.");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(Priority.LOWEST, done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Queued tasks should run.");
+    }
+}
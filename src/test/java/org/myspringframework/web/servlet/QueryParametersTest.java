@@ -0,0 +1,48 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryParametersTest {
+
+    @Test
+    public void testDecodeValues() {
+        // Given
+        QueryParameters parameters = QueryParameters.of("q=hello+world&name=%ED%99%8D%EA%B8%B8%EB%8F%99&raw=a%2Bb&flag");
+
+        // Then
+        assertEquals("hello world", parameters.getFirst("q"), "'+' should be decoded as space.");
+        assertEquals("\uD64D\uAE38\uB3D9", parameters.getFirst("name"), "Percent-encoded UTF-8 should be decoded.");
+        assertEquals("a+b", parameters.getFirst("raw"), "%2B should be decoded as '+'.");
+        assertEquals("", parameters.getFirst("flag"), "Key without '=' should have an empty value.");
+        assertNull(parameters.getFirst("missing"), "Missing key should return null.");
+        assertNull(QueryParameters.of(null).getFirst("q"), "Null query string should have no parameters.");
+    }
+
+    @Test
+    public void testRepeatedKeys() {
+        // Given
+        QueryParameters parameters = QueryParameters.of("id=1&other=x&id=2&ids=3&id=3");
+
+        // Then
+        assertEquals(List.of("1", "2", "3"), parameters.getAll("id"), "All values should be kept in order.");
+        assertEquals("1", parameters.getFirst("id"), "getFirst should return the first value.");
+        assertEquals(List.of("3"), parameters.getAll("ids"), "Key prefix should not match a longer key.");
+        assertTrue(parameters.getAll("none").isEmpty(), "Missing key should return an empty list.");
+    }
+
+    @Test
+    public void testEncodedKeyAndInvalidEncoding() {
+        // Given
+        QueryParameters parameters = QueryParameters.of("first%20name=kim&bad=%E0%A&ok=1");
+
+        // Then
+        assertEquals("kim", parameters.getFirst("first name"), "Encoded keys should be matched after decoding.");
+        assertEquals("1", parameters.getFirst("ok"), "Other values should still be readable.");
+        assertThrows(IllegalArgumentException.class, () -> parameters.getFirst("bad"),
+                "Truncated percent-encoding should be rejected.");
+    }
+}
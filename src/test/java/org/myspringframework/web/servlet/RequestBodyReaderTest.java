@@ -0,0 +1,273 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestBodyReaderTest {
+    private static final String BODY = "{\"name\": \"kim\", \"tags\": [\"a\", \"b\", \"c\"], \"note\": \"0123456789abcdef\"}";
+
+    @Test
+    public void testReadInMemory() throws IOException {
+        // Given
+        StubInputStream input = new StubInputStream();
+        Recorder recorder = new Recorder();
+        RequestBodyReader reader = new RequestBodyReader(input, 1024, 1024, -1, null, recorder);
+
+        // When: body가 두 번에 나눠 도착
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        input.offer(Arrays.copyOfRange(bytes, 0, 10));
+        reader.onDataAvailable();
+        input.offer(Arrays.copyOfRange(bytes, 10, bytes.length));
+        reader.onDataAvailable();
+        reader.onAllDataRead();
+
+        // Then
+        assertNull(recorder.failure, "Reading should succeed.");
+        assertEquals(bytes.length, recorder.body.size(), "Body size should be the received bytes.");
+        assertFalse(recorder.body.isSpilled(), "Body under the threshold should stay in memory.");
+        assertEquals(BODY, recorder.body.asString(), "Body should keep the received bytes in order.");
+    }
+
+    @Test
+    public void testSpillToTempFile() throws IOException {
+        // Given
+        Set<Path> before = tempFiles();
+        StubInputStream input = new StubInputStream();
+        Recorder recorder = new Recorder();
+        RequestBodyReader reader = new RequestBodyReader(input, 1024, 16, BODY.length(), null, recorder);
+
+        // When
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 7) {
+            input.offer(Arrays.copyOfRange(bytes, i, Math.min(i + 7, bytes.length)));
+            reader.onDataAvailable();
+        }
+        reader.onAllDataRead();
+
+        // Then
+        assertTrue(recorder.body.isSpilled(), "Body over the threshold should be written to a temp file.");
+        assertEquals(BODY, recorder.body.asString(), "Spilled body should keep the bytes written before the spill.");
+        assertEquals(1, newTempFiles(before).size(), "One temp file should be created.");
+        recorder.body.close();
+        assertTrue(newTempFiles(before).isEmpty(), "Closing the body should delete the temp file.");
+    }
+
+    @Test
+    public void testPayloadTooLargeMidStream() throws IOException {
+        // Given: Content-Length 없이 최대 크기를 넘는 body
+        Set<Path> before = tempFiles();
+        StubInputStream input = new StubInputStream();
+        Recorder recorder = new Recorder();
+        RequestBodyReader reader = new RequestBodyReader(input, 40, 16, -1, null, recorder);
+
+        // When
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        input.offer(Arrays.copyOfRange(bytes, 0, 30));
+        reader.onDataAvailable();
+        input.offer(Arrays.copyOfRange(bytes, 30, bytes.length));
+        reader.onDataAvailable();
+        reader.onAllDataRead();
+
+        // Then
+        assertInstanceOf(PayloadTooLargeException.class, recorder.failure, "Oversize body should fail with 413.");
+        assertNull(recorder.body, "Failed body should not be delivered.");
+        assertEquals(1, recorder.calls, "Callback should be called exactly once.");
+        assertTrue(newTempFiles(before).isEmpty(), "Spilled part should be deleted on failure.");
+    }
+
+    @Test
+    public void testCleanupOnErrorAndDiscard() throws IOException {
+        // Given: 임시 파일에 쓰던 중
+        Set<Path> before = tempFiles();
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        StubInputStream erroredInput = new StubInputStream();
+        Recorder errored = new Recorder();
+        RequestBodyReader erroredReader = new RequestBodyReader(erroredInput, 1024, 16, -1, null, errored);
+        erroredInput.offer(bytes);
+        erroredReader.onDataAvailable();
+        StubInputStream abandonedInput = new StubInputStream();
+        Recorder abandoned = new Recorder();
+        RequestBodyReader abandonedReader = new RequestBodyReader(abandonedInput, 1024, 16, -1, null, abandoned);
+        abandonedInput.offer(bytes);
+        abandonedReader.onDataAvailable();
+        assertEquals(2, newTempFiles(before).size(), "Both readers should have spilled.");
+
+        // When: 연결 오류, 요청이 끝날 때까지 body를 다 받지 못함(timeout 등)
+        erroredReader.onError(new IOException("Connection reset"));
+        abandonedReader.discard();
+        abandonedReader.onAllDataRead();
+
+        // Then
+        assertInstanceOf(IOException.class, errored.failure, "I/O error should be reported.");
+        assertEquals(0, abandoned.calls, "Discarded reader should not call back.");
+        assertTrue(newTempFiles(before).isEmpty(), "Temp files should be deleted on error and discard.");
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        // Given
+        StubInputStream input = new StubInputStream();
+        Recorder recorder = new Recorder();
+        RequestBodyReader reader = new RequestBodyReader(input, 1024, 1024, 0, null, recorder);
+
+        // When
+        reader.onAllDataRead();
+
+        // Then
+        assertEquals(0, recorder.body.size(), "Empty body should be delivered with size 0.");
+        assertNull(new RequestBodyArgumentResolver(Object.class, null)
+                        .resolve(new RequestContext(null, null, null, recorder.body)),
+                "Empty body should bind null like the previous String path.");
+    }
+
+    @Test
+    public void testDecodeCompressedBody() throws IOException {
+        for (String encoding : new String[]{"gzip", "deflate"}) {
+            // Given
+            StubInputStream input = new StubInputStream();
+            Recorder recorder = new Recorder();
+            RequestBodyReader reader = new RequestBodyReader(input, 1024, 1024, -1, encoding, recorder);
+
+            // When
+            input.offer(compress(BODY.getBytes(StandardCharsets.UTF_8), encoding));
+            reader.onDataAvailable();
+            reader.onAllDataRead();
+
+            // Then
+            assertNull(recorder.failure, encoding + " body should be decoded.");
+            assertEquals(BODY, recorder.body.asString(), encoding + " body should round-trip.");
+        }
+    }
+
+    @Test
+    public void testMalformedAndOversizeCompressedBody() throws IOException {
+        // Given: gzip magic 뒤에 잘못된 데이터
+        StubInputStream malformedInput = new StubInputStream();
+        Recorder malformed = new Recorder();
+        RequestBodyReader malformedReader = new RequestBodyReader(malformedInput, 1024, 1024, -1, "gzip", malformed);
+        malformedInput.offer(new byte[]{0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff, 1, 2, 3, 4, 5});
+
+        // Given: 압축된 크기는 작지만 풀면 최대 크기를 넘는 body
+        StubInputStream bombInput = new StubInputStream();
+        Recorder bomb = new Recorder();
+        RequestBodyReader bombReader = new RequestBodyReader(bombInput, 1024, 1024, -1, "gzip", bomb);
+        bombInput.offer(compress(new byte[64 << 10], "gzip"));
+
+        // When
+        malformedReader.onDataAvailable();
+        malformedReader.onAllDataRead();
+        bombReader.onDataAvailable();
+        bombReader.onAllDataRead();
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, malformed.failure, "Malformed gzip should be a bad request.");
+        assertNull(malformed.body, "Malformed body should not be delivered.");
+        assertInstanceOf(PayloadTooLargeException.class, bomb.failure, "Decoded size should be limited too.");
+    }
+
+    private static byte[] compress(byte[] bytes, String encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream compressor = "gzip".equals(encoding) ? new GZIPOutputStream(out) : new DeflaterOutputStream(out)) {
+            compressor.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static Set<Path> tempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            Set<Path> result = new HashSet<>();
+            files.filter(file -> file.getFileName().toString().startsWith("request-body-")).forEach(result::add);
+            return result;
+        }
+    }
+
+    private static Set<Path> newTempFiles(Set<Path> before) throws IOException {
+        Set<Path> files = tempFiles();
+        files.removeAll(before);
+        return files;
+    }
+
+    private static final class Recorder implements RequestBodyReader.Callback {
+        private CachedRequestBody body;
+        private Throwable failure;
+        private int calls;
+
+        @Override
+        public void onBody(CachedRequestBody body) {
+            this.body = body;
+            calls++;
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+            calls++;
+        }
+    }
+
+    /**
+     * offer한 바이트만 읽을 수 있는 입력. 다 읽으면 isReady()가 false가 됩니다.
+     */
+    private static final class StubInputStream extends ServletInputStream {
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private int offset;
+
+        void offer(byte[] bytes) {
+            chunks.add(bytes);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return false;
+        }
+
+        @Override
+        public boolean isReady() {
+            return !chunks.isEmpty();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == 1 ? one[0] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            byte[] head = chunks.peek();
+            if (head == null) {
+                throw new IllegalStateException("read() called while not ready");
+            }
+            int n = Math.min(len, head.length - offset);
+            System.arraycopy(head, offset, b, off, n);
+            offset += n;
+            if (offset == head.length) {
+                chunks.poll();
+                offset = 0;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.myspringframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestMetricsTest {
+
+    @Test
+    public void testEscapeLabel() {
+        // Then
+        assertEquals("/items/{id}", RequestMetrics.escapeLabel("/items/{id}"), "Plain value should not be copied.");
+        assertEquals("a\\\"b\\\\c\\nd", RequestMetrics.escapeLabel("a\"b\\c\nd"), "Quote, backslash and newline should be escaped.");
+    }
+
+    @Test
+    public void testScrapeByStatusClass() {
+        // Given
+        RequestMetrics metrics = new RequestMetrics();
+        HandlerPattern pattern = new HandlerPattern(RequestMethod.POST, "/say \"hi\"");
+        long now = System.nanoTime();
+
+        // When
+        metrics.record(request(10), response(200), pattern, now - TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.record(request(5), response(201), pattern, now - TimeUnit.MILLISECONDS.toNanos(4));
+        metrics.record(request(0), response(503), pattern, now);
+        metrics.record(request(0), response(404), null, now);
+        String scrape = metrics.scrape();
+
+        // Then
+        String labels = "method=\"POST\",uri=\"/say \\\"hi\\\"\"";
+        for (String quantile : new String[]{"0.5", "0.9", "0.99", "0.999"}) {
+            assertTrue(scrape.contains("http_server_requests_seconds{" + labels + ",status=\"2xx\",quantile=\"" + quantile + "\"} "),
+                    "Each quantile should be written per status class:\n" + scrape);
+        }
+        assertTrue(scrape.contains("http_server_requests_seconds_count{" + labels + ",status=\"2xx\"} 2\n"), scrape);
+        assertTrue(scrape.contains("http_server_requests_seconds_count{" + labels + ",status=\"5xx\"} 1\n"), scrape);
+        assertFalse(scrape.contains(labels + ",status=\"4xx\""), "Status class without requests should be omitted.");
+        assertTrue(scrape.contains("http_server_requests_seconds_count{method=\"\",uri=\"NOT_FOUND\",status=\"4xx\"} 1\n"),
+                "Unmatched requests should share the NOT_FOUND series:\n" + scrape);
+        assertTrue(scrape.contains("http_server_request_bytes_total{" + labels + "} 15\n"), "Request bytes should be summed.");
+    }
+
+    private static HttpServletRequest request(long contentLength) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getContentLengthLong")) {
+                        return contentLength;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static HttpServletResponse response(int status) {
+        return (HttpServletResponse) Proxy.newProxyInstance(
+                HttpServletResponse.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getStatus")) {
+                        return status;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
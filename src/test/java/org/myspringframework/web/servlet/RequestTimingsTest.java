@@ -0,0 +1,87 @@
+package org.myspringframework.web.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public class RequestTimingsTest {
+
+    @Test
+    public void testNotMeasuredWhenDisabled() {
+        // Given: JFR 기록 중이 아니고 Server-Timing도 꺼짐
+        assumeFalse(new RequestPhaseEvent().isEnabled(), "Another JFR recording is running.");
+        Map<String, Object> attributes = new HashMap<>();
+        HttpServletRequest req = request(attributes);
+
+        // When
+        RequestTimings timings = RequestTimings.start(req, false, System.nanoTime());
+
+        // Then
+        assertNull(timings, "Timings should not be created when nothing reads them.");
+        assertTrue(attributes.isEmpty(), "Request attribute should not be set.");
+        assertNull(RequestTimings.of(req));
+    }
+
+    @Test
+    public void testMeasuredWhileJfrRecording() {
+        // Given
+        Map<String, Object> attributes = new HashMap<>();
+        HttpServletRequest req = request(attributes);
+
+        // When
+        RequestTimings timings;
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestPhaseEvent.class);
+            recording.start();
+            timings = RequestTimings.start(req, false, System.nanoTime());
+        }
+
+        // Then
+        assertNotNull(timings, "Timings should be created while RequestPhase events are recorded.");
+        assertSame(timings, RequestTimings.of(req), "Timings should be kept as a request attribute.");
+        assertFalse(timings.isServerTiming());
+    }
+
+    @Test
+    public void testServerTiming() {
+        // Given
+        HttpServletRequest req = request(new HashMap<>());
+        RequestTimings timings = RequestTimings.start(req, true, System.nanoTime());
+
+        // When: write는 header를 만드는 시점에 아직 진행 중
+        timings.begin(RequestTimings.Phase.ROUTE);
+        timings.end(RequestTimings.Phase.ROUTE);
+        timings.begin(RequestTimings.Phase.HANDLER);
+        timings.end(RequestTimings.Phase.HANDLER);
+        timings.begin(RequestTimings.Phase.WRITE);
+        String value = timings.toServerTiming();
+
+        // Then
+        assertSame(timings, RequestTimings.of(req));
+        assertTrue(value.matches("route;dur=\\d+\\.\\d{3}, handler;dur=\\d+\\.\\d{3}, write;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}"),
+                "Only executed phases should be listed in order: " + value);
+    }
+
+    /**
+     * request attribute를 map에 보관하는 최소한의 HttpServletRequest
+     */
+    private static HttpServletRequest request(Map<String, Object> attributes) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getMethod" -> "GET";
+                    case "getRequestURI" -> "/timed";
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
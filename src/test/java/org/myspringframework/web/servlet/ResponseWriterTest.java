@@ -0,0 +1,131 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseWriterTest {
+    private ResponseWriter responseWriter;
+    private byte[] body;
+
+    @BeforeEach
+    public void setUp() {
+        responseWriter = new ResponseWriter();
+        body = "{\"name\":\"홍길동\",\"items\":[1,2,3]},".repeat(500).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testNegotiate() {
+        assertEquals("gzip", ResponseWriter.negotiate("gzip, deflate, br"), "gzip should be preferred.");
+        assertEquals("deflate", ResponseWriter.negotiate("gzip;q=0.5, deflate"), "Higher q value should win.");
+        assertEquals("deflate", ResponseWriter.negotiate("gzip;q=0, *"), "Wildcard should not override q=0.");
+        assertNull(ResponseWriter.negotiate("br, identity"), "Unsupported encodings should not be selected.");
+        assertNull(ResponseWriter.negotiate(null), "Missing header should not compress.");
+    }
+
+    @Test
+    public void testGzipRoundTrip() throws IOException {
+        // Act
+        byte[] compressed = responseWriter.compress(body, "gzip");
+        byte[] again = responseWriter.compress(body, "gzip");
+
+        // Assert
+        assertTrue(compressed.length < body.length / 5, "Repetitive JSON should compress well.");
+        assertArrayEquals(body, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))),
+                "gzip output should be readable by GZIPInputStream.");
+        assertArrayEquals(compressed, again, "Pooled deflater should be reset between uses.");
+    }
+
+    @Test
+    public void testDeflateRoundTrip() throws IOException {
+        // Act
+        byte[] compressed = responseWriter.compress(body, "deflate");
+
+        // Assert
+        assertArrayEquals(body, readAll(new InflaterInputStream(new ByteArrayInputStream(compressed))),
+                "deflate output should be zlib format.");
+    }
+
+    @Test
+    public void testCompressedCacheComparesBody() throws IOException {
+        // Given: 길이와 hash가 같은 두 body (hash 충돌)
+        byte[] other = body.clone();
+        other[0] = '[';
+        long hash = 42;
+
+        // When
+        byte[] first = responseWriter.compressCached(body, "gzip", hash);
+        byte[] colliding = responseWriter.compressCached(other, "gzip", hash);
+        byte[] cached = responseWriter.compressCached(other.clone(), "gzip", hash);
+
+        // Then
+        assertArrayEquals(body, readAll(new GZIPInputStream(new ByteArrayInputStream(first))));
+        assertArrayEquals(other, readAll(new GZIPInputStream(new ByteArrayInputStream(colliding))),
+                "Colliding body should not get another body's compressed bytes.");
+        assertSame(colliding, cached, "Same body should reuse the cached compressed bytes.");
+    }
+
+    @Test
+    public void testIsCacheable() {
+        assertTrue(ResponseWriter.isCacheable("public, max-age=3600"));
+        assertTrue(ResponseWriter.isCacheable("max-age=31536000, immutable"));
+        assertFalse(ResponseWriter.isCacheable("private, max-age=60"));
+        assertFalse(ResponseWriter.isCacheable("no-store"));
+        assertFalse(ResponseWriter.isCacheable(null));
+    }
+
+    @Test
+    public void testXxHash64() {
+        // 참조 구현(xxhsum)과 같은 값
+        assertEquals(0xEF46DB3751D8E999L, XxHash64.hash(new byte[0], 0, 0));
+        byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(0x44BC2CF5AD770999L, XxHash64.hash(abc, 0, abc.length));
+        byte[] text = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(0xFBCEA83C8A378BF1L, XxHash64.hash(text, 0, text.length));
+    }
+
+    @Test
+    public void testETagMatches() {
+        String etag = ResponseWriter.computeETag(body, null);
+
+        assertTrue(ResponseWriter.etagMatches(etag, etag), "Same ETag should match.");
+        assertTrue(ResponseWriter.etagMatches("\"other\", W/" + etag, etag), "Weak comparison should be used.");
+        assertTrue(ResponseWriter.etagMatches("*", etag), "Wildcard should match any ETag.");
+        assertFalse(ResponseWriter.etagMatches(ResponseWriter.computeETag(body, "gzip"), etag),
+                "Compressed representation should have a different ETag.");
+        assertFalse(ResponseWriter.etagMatches(null, etag));
+    }
+
+    @Test
+    public void testHandlerETagMatchesEncodedRepresentations() {
+        // Given
+        String etag = "\"v1\"";
+
+        // When
+        String gzip = ResponseWriter.withEncoding(etag, "gzip");
+
+        // Then
+        assertEquals("\"v1-gzip\"", gzip);
+        assertEquals(gzip, ResponseWriter.withEncoding(gzip, "gzip"), "Suffix should be added once.");
+        assertFalse(ResponseWriter.etagMatches(gzip, etag), "Compressed representation should have a different ETag.");
+        assertTrue(ResponseWriter.handlerETagMatches(gzip, etag), "Compressed ETag should match the handler ETag.");
+        assertTrue(ResponseWriter.handlerETagMatches("\"v1-deflate\"", etag));
+        assertFalse(ResponseWriter.handlerETagMatches("\"v2-gzip\"", etag));
+        assertFalse(ResponseWriter.handlerETagMatches("W/\"v1-gzip\"", "W/\"v1\""),
+                "Weak ETags are not suffixed.");
+    }
+
+    private byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
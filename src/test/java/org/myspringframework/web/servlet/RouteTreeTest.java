@@ -0,0 +1,97 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.myspringframework.web.bind.annotation.RequestMethod;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RouteTreeTest {
+
+    private RouteTree tree;
+    private Map<String, HandlerMethod> handlers;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new RouteTree();
+        handlers = new HashMap<>();
+        register("/users");
+        register("/users/me");
+        register("/users/{id}");
+        register("/users/{id}/posts");
+        register("/users/{userId}/posts/{postId}");
+        register("/user-groups/{groupId}");
+        register("/");
+    }
+
+    private void register(String template) {
+        HandlerMethod handler = new HandlerMethod(new Object(), null, new HandlerPattern(RequestMethod.GET, template), new ArgumentResolver[0], args -> null);
+        handlers.put(template, handler);
+        tree.insert(template, handler);
+    }
+
+    @Test
+    public void testStaticRoutes() {
+        // Act
+        HandlerMatch users = tree.match("/users");
+        HandlerMatch root = tree.match("/");
+
+        // Assert
+        assertSame(handlers.get("/users"), users.getHandler(), "'/users' should match the static route.");
+        assertSame(handlers.get("/"), root.getHandler(), "'/' should match the root route.");
+        assertSame(users, tree.match("/users"), "Static matches should be reused without allocation.");
+    }
+
+    @Test
+    public void testStaticRouteWinsOverVariable() {
+        // Act
+        HandlerMatch match = tree.match("/users/me");
+
+        // Assert
+        assertSame(handlers.get("/users/me"), match.getHandler(), "Static segment should be matched before {id}.");
+        assertNull(match.getPathVariable("id"), "Static route should not capture variables.");
+    }
+
+    @Test
+    public void testPathVariables() {
+        // Act
+        HandlerMatch single = tree.match("/users/42");
+        HandlerMatch nested = tree.match("/users/42/posts/7");
+        HandlerMatch prefixOfStatic = tree.match("/users/meow/posts");
+
+        // Assert
+        assertSame(handlers.get("/users/{id}"), single.getHandler(), "'/users/42' should match '/users/{id}'.");
+        assertEquals("42", single.getPathVariable("id"), "id should be captured.");
+        assertSame(handlers.get("/users/{userId}/posts/{postId}"), nested.getHandler(), "Nested variables should match.");
+        assertEquals("42", nested.getPathVariable("userId"), "userId should be captured.");
+        assertEquals("7", nested.getPathVariable("postId"), "postId should be captured.");
+        assertSame(handlers.get("/users/{id}/posts"), prefixOfStatic.getHandler(), "Should fall back to {id} when static prefix fails.");
+        assertEquals("meow", prefixOfStatic.getPathVariable("id"), "id should be captured after backtracking.");
+    }
+
+    @Test
+    public void testSharedPrefixSplit() {
+        // Act
+        HandlerMatch match = tree.match("/user-groups/admins");
+
+        // Assert
+        assertSame(handlers.get("/user-groups/{groupId}"), match.getHandler(), "Routes sharing a prefix should both match.");
+        assertEquals("admins", match.getPathVariable("groupId"), "groupId should be captured.");
+    }
+
+    @Test
+    public void testNoMatch() {
+        assertNull(tree.match("/users/42/comments"), "Unknown sub-path should not match.");
+        assertNull(tree.match("/users/"), "Empty variable segment should not match.");
+        assertNull(tree.match("/unknown"), "Unknown path should not match.");
+    }
+
+    @Test
+    public void testAmbiguousMapping() {
+        assertThrows(IllegalStateException.class, () -> register("/users/{other}"),
+                "Registering the same route twice should fail.");
+    }
+}
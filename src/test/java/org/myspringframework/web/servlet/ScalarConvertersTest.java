@@ -0,0 +1,95 @@
+package org.myspringframework.web.servlet;
+
+import org.junit.jupiter.api.Test;
+import org.myspringframework.web.bind.annotation.RequestMethod;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScalarConvertersTest {
+    private final ScalarConverters converters = new ScalarConverters();
+
+    @Test
+    public void testConvertScalars() {
+        // Then
+        assertEquals(42L, converters.find(Long.class).convert("42"), "Long should be parsed directly.");
+        assertEquals(7, converters.find(int.class).convert("7"), "Primitive int should be supported.");
+        assertEquals("abc", converters.find(String.class).convert("abc"), "String should be passed through.");
+        assertEquals(Boolean.TRUE, converters.find(boolean.class).convert("on"), "'on' should be true.");
+        assertEquals(LocalDate.of(2024, 2, 29), converters.find(LocalDate.class).convert("2024-02-29"), "ISO date should be parsed.");
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, converters.find(UUID.class).convert(uuid.toString()), "UUID should be parsed.");
+    }
+
+    @Test
+    public void testConvertEnum() {
+        // Then
+        assertEquals(RequestMethod.POST, converters.find(RequestMethod.class).convert("POST"), "Exact name should match.");
+        assertEquals(RequestMethod.POST, converters.find(RequestMethod.class).convert("post"), "Name should match ignoring case.");
+        assertThrows(IllegalArgumentException.class, () -> converters.find(RequestMethod.class).convert("FETCH"),
+                "Unknown constant should be rejected.");
+    }
+
+    @Test
+    public void testRejectInvalidValues() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> converters.find(Long.class).convert("4x"), "Invalid number should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> converters.find(Boolean.class).convert("maybe"),
+                "Invalid boolean should be rejected instead of becoming false.");
+        assertNull(converters.find(Object.class), "Unsupported types should have no converter.");
+    }
+
+    @Test
+    public void testNumberRanges() {
+        // Then
+        assertEquals(Long.MIN_VALUE, converters.find(long.class).convert("-9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, converters.find(long.class).convert("+9223372036854775807"));
+        assertEquals(Integer.MIN_VALUE, converters.find(int.class).convert("-2147483648"));
+        assertEquals((byte) -128, converters.find(byte.class).convert("-128"));
+        assertEquals(1.5e3, converters.find(double.class).convert("1.5e3"));
+        assertEquals(new BigDecimal("-0.10"), converters.find(BigDecimal.class).convert("-0.10"));
+        for (String value : new String[]{"9223372036854775808", "-9223372036854775809", "", "-", "1 ", "１"}) {
+            assertThrows(ScalarConversionException.class, () -> converters.find(long.class).convert(value),
+                    "Out-of-range or malformed long should be rejected: '" + value + "'");
+        }
+        assertThrows(ScalarConversionException.class, () -> converters.find(int.class).convert("2147483648"));
+        assertThrows(ScalarConversionException.class, () -> converters.find(byte.class).convert("128"));
+    }
+
+    @Test
+    public void testInvalidValuesHaveNoStackTrace() {
+        // Given
+        List<Map.Entry<Class<?>, String>> invalid = List.of(
+                Map.entry(int.class, "4x"),
+                Map.entry(Long.class, "9223372036854775808"),
+                Map.entry(double.class, "1.2.3"),
+                Map.entry(BigDecimal.class, "1e"),
+                Map.entry(BigInteger.class, "0x10"),
+                Map.entry(UUID.class, "not-a-uuid"),
+                Map.entry(LocalDate.class, "2024/02/29"),
+                Map.entry(LocalDate.class, "2024-02-30"), // 형식은 맞지만 없는 날짜
+                Map.entry(Instant.class, "yesterday"),
+                Map.entry(Duration.class, "PT"),
+                Map.entry(Boolean.class, "maybe"),
+                Map.entry(RequestMethod.class, "FETCH"));
+
+        for (Map.Entry<Class<?>, String> entry : invalid) {
+            // When
+            ScalarConversionException exception = assertThrows(ScalarConversionException.class,
+                    () -> converters.find(entry.getKey()).convert(entry.getValue()),
+                    entry.getKey().getSimpleName() + " should reject " + entry.getValue());
+
+            // Then
+            assertEquals(0, exception.getStackTrace().length, "Conversion failure should not capture a stack trace.");
+            assertNull(exception.getCause(), "Conversion failure should not keep a stackful cause.");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.bind.annotation.PathVariable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+public class AsyncController {
+    /**
+     * 완료되지 않은 채 반환한 마지막 future
+     */
+    public static volatile CompletableFuture<String> pending;
+
+    @GetMapping("/async/delayed/{millis}")
+    public CompletableFuture<String> delayed(@PathVariable("millis") long millis) {
+        return CompletableFuture.supplyAsync(() -> "done after " + millis,
+                CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+    }
+
+    @GetMapping("/async/failed")
+    public CompletableFuture<String> failed() {
+        return CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException("boom");
+        }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+    }
+
+    @GetMapping("/async/never")
+    public CompletableFuture<String> never() {
+        pending = new CompletableFuture<>();
+        return pending;
+    }
+
+    /**
+     * 취소할 수 없는 CompletionStage
+     */
+    @GetMapping("/async/late")
+    public CompletionStage<String> late() {
+        pending = new CompletableFuture<>();
+        return pending.minimalCompletionStage();
+    }
+}
@@ -0,0 +1,15 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.PostMapping;
+import org.myspringframework.web.bind.annotation.RequestBody;
+
+import java.util.Map;
+
+@RestController
+public class BodyController {
+    @PostMapping("/body/name")
+    public String name(@RequestBody Map<String, Object> body) {
+        return body == null ? "empty" : String.valueOf(body.get("name"));
+    }
+}
@@ -0,0 +1,38 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.bind.annotation.PathVariable;
+import org.myspringframework.web.bind.annotation.RequestParam;
+import org.myspringframework.web.bind.annotation.ResponseCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RestController
+public class CacheController {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger itemCalls = new AtomicInteger();
+
+    @ResponseCache(ttl = 60)
+    @GetMapping("/cached")
+    public String cached(@RequestParam("q") String q) {
+        return q + " " + calls.incrementAndGet();
+    }
+
+    /**
+     * 1초가 지나면 stale, 2초가 지나면 만료
+     */
+    @ResponseCache(ttl = 1, name = "items")
+    @GetMapping("/cached/items/{id}")
+    public String item(@PathVariable("id") String id) {
+        return id + " " + itemCalls.incrementAndGet();
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    public int getItemCalls() {
+        return itemCalls.get();
+    }
+}
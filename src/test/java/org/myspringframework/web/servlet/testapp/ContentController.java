@@ -0,0 +1,22 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.http.HttpHeaders;
+import org.myspringframework.web.http.HttpStatusCode;
+import org.myspringframework.web.http.ResponseEntity;
+
+@RestController
+public class ContentController {
+    public static final String LARGE = "0123456789abcdef".repeat(256);
+
+    /**
+     * 압축 결과를 보관할 수 있는(Cache-Control) 큰 응답
+     */
+    @GetMapping("/content/large")
+    public ResponseEntity<String> large() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=60");
+        return new ResponseEntity<>(LARGE, headers, HttpStatusCode.OK);
+    }
+}
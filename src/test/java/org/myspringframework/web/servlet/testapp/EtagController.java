@@ -0,0 +1,43 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.http.ResponseEntity;
+import org.myspringframework.web.servlet.WebRequest;
+
+@RestController
+public class EtagController {
+    @GetMapping("/etag/auto")
+    public String auto() {
+        return "auto";
+    }
+
+    /**
+     * If-None-Match가 "v1"과 일치하면 Payload를 직렬화하지 않고 304로 응답해야 합니다.
+     */
+    @GetMapping("/etag/entity")
+    public ResponseEntity<Payload> entity() {
+        return ResponseEntity.ok(new Payload("entity"), "v1");
+    }
+
+    @GetMapping("/etag/check")
+    public String check(WebRequest request) {
+        if (request.checkNotModified("v2")) {
+            return "ignored";
+        }
+        return "fresh";
+    }
+
+    @GetMapping("/etag/large")
+    public ResponseEntity<String> large() {
+        return ResponseEntity.ok(ContentController.LARGE, "v3");
+    }
+
+    public static class Payload {
+        private final String name;
+
+        public Payload(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.web.bind.annotation.ExceptionHandler;
+import org.myspringframework.web.bind.annotation.RestControllerAdvice;
+import org.myspringframework.web.http.HttpStatusCode;
+import org.myspringframework.web.http.ResponseEntity;
+
+@RestControllerAdvice
+public class ItemAdvice {
+    @ExceptionHandler(ItemController.ItemException.class)
+    public ResponseEntity<String> invalid(ItemController.ItemException e) {
+        return new ResponseEntity<>("invalid " + e.getMessage(), HttpStatusCode.BAD_REQUEST);
+    }
+
+    /**
+     * ItemDeletedException은 ItemException보다 가까운 이 메서드가 처리
+     */
+    @ExceptionHandler(ItemController.ItemNotFoundException.class)
+    public ResponseEntity<String> notFound(ItemController.ItemNotFoundException e) {
+        return new ResponseEntity<>("not found " + e.getMessage(), HttpStatusCode.NOT_FOUND);
+    }
+}
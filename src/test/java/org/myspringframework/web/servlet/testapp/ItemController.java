@@ -0,0 +1,45 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.bind.annotation.PathVariable;
+
+/**
+ * {@link ItemAdvice}가 처리하는 예외를 던지는 컨트롤러
+ */
+@RestController
+public class ItemController {
+    @GetMapping("/items/{id}")
+    public String item(@PathVariable("id") String id) {
+        switch (id) {
+            case "invalid":
+                throw new ItemException(id);
+            case "missing":
+                throw new ItemNotFoundException(id);
+            case "deleted":
+                throw new ItemDeletedException(id);
+            case "broken":
+                throw new UnsupportedOperationException(id); // advice가 처리하지 않음
+            default:
+                return id;
+        }
+    }
+
+    public static class ItemException extends RuntimeException {
+        public ItemException(String id) {
+            super(id);
+        }
+    }
+
+    public static class ItemNotFoundException extends ItemException {
+        public ItemNotFoundException(String id) {
+            super(id);
+        }
+    }
+
+    public static class ItemDeletedException extends ItemNotFoundException {
+        public ItemDeletedException(String id) {
+            super(id);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.RestController;
+import org.myspringframework.web.bind.annotation.GetMapping;
+import org.myspringframework.web.bind.annotation.PostMapping;
+import org.myspringframework.web.bind.annotation.Priority;
+import org.myspringframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+public class PriorityController {
+    /**
+     * 핸들러가 실행된 순서. "이름@스레드 이름"
+     */
+    public static final List<String> HANDLED = new CopyOnWriteArrayList<>();
+    public static volatile CountDownLatch blocking = new CountDownLatch(1);
+    public static volatile CountDownLatch release = new CountDownLatch(1);
+
+    @GetMapping("/priority/block")
+    public String block() throws InterruptedException {
+        blocking.countDown();
+        release.await(10, TimeUnit.SECONDS);
+        return "released";
+    }
+
+    @Priority(Priority.LOWEST)
+    @PostMapping("/priority/report")
+    public String report(@RequestBody Map<String, Object> body) {
+        HANDLED.add(body.get("name") + "@" + Thread.currentThread().getName());
+        return "report";
+    }
+
+    @Priority(Priority.HIGHEST)
+    @PostMapping("/priority/checkout")
+    public String checkout(@RequestBody Map<String, Object> body) {
+        HANDLED.add(body.get("name") + "@" + Thread.currentThread().getName());
+        return "checkout";
+    }
+}
@@ -0,0 +1,10 @@
+package org.myspringframework.web.servlet.testapp;
+
+import org.myspringframework.annotations.SpringBootApplication;
+
+/**
+ * {@code DispatcherServletTest}가 요청을 보내는 컨트롤러를 스캔하는 애플리케이션
+ */
+@SpringBootApplication
+public class WebTestApplication {
+}